@@ -0,0 +1,150 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import org.springframework.beans.DirectFieldAccessor;
+import site.devtown.spadeworker.domain.file.constant.ImageFileType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * flat / sharded 저장 구조의 파일 생성, 조회 지연 시간 비교
+ * 각 구조에 fileCount 개의 빈 이미지 파일을 만든 뒤, 존재하는 이름과 존재하지 않는 이름을 무작위로 조회한다.
+ *
+ * 실행 : ./gradlew imageStorageBenchmark -PbenchmarkArgs="{fileCount} {lookupCount} {rootDirectory}"
+ * 기본값 : 1,000,000 개, 100,000 회, 임시 디렉토리 (측정 후 삭제)
+ * 디렉토리 캐시의 영향을 줄이려면 rootDirectory 를 실제 저장소와 같은 파일 시스템으로 지정한다.
+ */
+public class ImageStorageLayoutBenchmark {
+
+    private static final ImageFileType IMAGE_FILE_TYPE = ImageFileType.PROJECT_THUMBNAIL_IMAGE;
+
+    public static void main(String[] args) throws IOException {
+        int fileCount = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+        int lookupCount = (args.length > 1) ? Integer.parseInt(args[1]) : 100_000;
+        boolean temporaryRoot = (args.length <= 2);
+        Path root = temporaryRoot ? Files.createTempDirectory("image-storage-benchmark-") : Path.of(args[2]);
+
+        // 두 구조에 같은 이름을 사용해 이름 분포에 따른 차이를 없앰
+        String[] storedFileNames = new String[fileCount];
+        for (int i = 0; i < fileCount; i++) {
+            storedFileNames[i] = IMAGE_FILE_TYPE.getImageType() + "_" + UUID.randomUUID() + ".jpg";
+        }
+
+        System.out.printf("files=%,d lookups=%,d root=%s%n", fileCount, lookupCount, root);
+        try {
+            for (boolean sharded : new boolean[]{false, true}) {
+                run(layoutOf(root.resolve(sharded ? "sharded" : "flat"), sharded), storedFileNames, lookupCount);
+            }
+        } finally {
+            if (temporaryRoot) {
+                deleteRecursively(root);
+            }
+        }
+    }
+
+    private static void run(
+            ImageStorageLayout layout,
+            String[] storedFileNames,
+            int lookupCount
+    ) throws IOException {
+        String name = layout.isSharded() ? "sharded" : "flat";
+        Files.createDirectories(layout.directoryOf(IMAGE_FILE_TYPE));
+
+        // 생성 : 서비스와 같이 상위 디렉토리를 확인/생성한 뒤 파일 생성 (이미 만든 디렉토리는 다시 확인하지 않음)
+        Set<Path> createdDirectories = new HashSet<>();
+        long[] createNanos = new long[storedFileNames.length];
+        for (int i = 0; i < storedFileNames.length; i++) {
+            long start = System.nanoTime();
+            Path path = layout.pathOf(IMAGE_FILE_TYPE, storedFileNames[i]);
+            if (createdDirectories.add(path.getParent())) {
+                Files.createDirectories(path.getParent());
+            }
+            try {
+                Files.createFile(path);
+            } catch (FileAlreadyExistsException ignored) {
+                // 이전 실행에서 남은 파일
+            }
+            createNanos[i] = System.nanoTime() - start;
+        }
+        report(name, "create", createNanos);
+
+        // 조회 : 컨트롤러와 같이 두 구조를 모두 확인하는 resolve 후 파일 크기 조회
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] hitNanos = new long[lookupCount];
+        long[] missNanos = new long[lookupCount];
+        for (int i = 0; i < lookupCount; i++) {
+            String storedFileName = storedFileNames[random.nextInt(storedFileNames.length)];
+            long start = System.nanoTime();
+            Files.size(layout.resolve(IMAGE_FILE_TYPE, storedFileName));
+            hitNanos[i] = System.nanoTime() - start;
+
+            String missingFileName = IMAGE_FILE_TYPE.getImageType() + "_" + UUID.randomUUID() + ".jpg";
+            start = System.nanoTime();
+            Files.exists(layout.resolve(IMAGE_FILE_TYPE, missingFileName));
+            missNanos[i] = System.nanoTime() - start;
+        }
+        report(name, "lookup-hit", hitNanos);
+        report(name, "lookup-miss", missNanos);
+    }
+
+    private static ImageStorageLayout layoutOf(
+            Path root,
+            boolean sharded
+    ) {
+        ImageStorageLayout layout = new ImageStorageLayout();
+        DirectFieldAccessor accessor = new DirectFieldAccessor(layout);
+        accessor.setPropertyValue("localFileStorageLocation", root.toString());
+        accessor.setPropertyValue("sharded", sharded);
+
+        return layout;
+    }
+
+    private static void report(
+            String layout,
+            String operation,
+            long[] nanos
+    ) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+
+        System.out.printf(
+                "%-8s %-12s avg=%,8d ns  p50=%,8d ns  p99=%,8d ns  max=%,10d ns%n",
+                layout,
+                operation,
+                (long) Arrays.stream(sorted).average().orElse(0),
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                sorted[sorted.length - 1]
+        );
+    }
+
+    private static long percentile(
+            long[] sorted,
+            double percentile
+    ) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .forEach(path -> {
+                        try {
+                            Files.delete(path);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        }
+    }
+}
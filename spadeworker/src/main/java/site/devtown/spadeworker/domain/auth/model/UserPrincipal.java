@@ -15,6 +15,7 @@ import java.util.Collections;
 import java.util.Map;
 
 public record UserPrincipal(
+        Long userId,
         String personalId,
         AuthProviderType providerType,
         UserStatus userStatus,
@@ -35,6 +36,7 @@ public record UserPrincipal(
             Map<String, Object> oAuth2UserInfo
     ) {
         return new UserPrincipal(
+                user.getId(),
                 user.getPersonalId(),
                 user.getProviderType(),
                 user.getStatus(),
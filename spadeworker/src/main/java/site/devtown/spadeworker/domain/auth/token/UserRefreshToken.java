@@ -3,7 +3,9 @@ package site.devtown.spadeworker.domain.auth.token;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import site.devtown.spadeworker.global.config.audit.BaseTimeEntity;
+import site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator;
 
 import javax.persistence.*;
 
@@ -13,7 +15,8 @@ import javax.persistence.*;
 public class UserRefreshToken extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TsidIdentifierGenerator.NAME)
+    @GenericGenerator(name = TsidIdentifierGenerator.NAME, strategy = TsidIdentifierGenerator.STRATEGY)
     private Long id;
 
     @Column(length = 100, nullable = false, updatable = false)
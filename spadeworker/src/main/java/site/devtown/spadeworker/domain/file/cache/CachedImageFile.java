@@ -0,0 +1,67 @@
+package site.devtown.spadeworker.domain.file.cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * off-heap (direct ByteBuffer) 에 적재된 이미지 파일
+ * 캐시와 전송 중인 요청이 각각 참조를 가지며, 마지막 참조가 해제될 때 메모리를 즉시 반환한다.
+ * (캐시에서 제거된 뒤에도 전송 중인 요청이 있다면 전송이 끝날 때까지 유지)
+ */
+public class CachedImageFile {
+
+    private final ByteBuffer buffer;
+    private final ImageFileCache owner;
+    // 캐시가 가진 참조 1 + 전송 중인 요청 수
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    CachedImageFile(
+            ByteBuffer buffer,
+            ImageFileCache owner
+    ) {
+        this.buffer = buffer;
+        this.owner = owner;
+    }
+
+    /**
+     * 파일 크기
+     */
+    public int length() {
+        return buffer.capacity();
+    }
+
+    /**
+     * [start, start + length) 구간을 복사 없이 읽는 read-only view
+     */
+    public ByteBuffer slice(
+            long start,
+            long length
+    ) {
+        return buffer.asReadOnlyBuffer()
+                .position((int) start)
+                .limit((int) (start + length))
+                .slice();
+    }
+
+    /**
+     * 전송이 끝난 요청의 참조 해제
+     */
+    public void release() {
+        if (references.decrementAndGet() == 0) {
+            owner.free(buffer);
+        }
+    }
+
+    // 이미 해제된 파일이 아니라면 참조 추가
+    boolean retain() {
+        while (true) {
+            int current = references.get();
+            if (current == 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package site.devtown.spadeworker.domain.file.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import javax.annotation.PreDestroy;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자주 요청되는 이미지 파일을 off-heap (direct ByteBuffer) 에 적재하는 캐시
+ * 저장 이름을 key 로 Caffeine(W-TinyLFU) 이 전체 크기를 제한하고, 한동안 요청되지 않은 파일은 만료시킨다.
+ * 파일이 삭제되면 삭제하는 쪽에서 invalidate 하며, 같은 이름으로 크기가 다른 파일이 보이면 다시 적재한다.
+ * 파일 내용은 힙 밖에 있어 GC 대상이 아니고, 제거된 buffer 는 마지막 참조가 해제될 때 Cleaner 로 즉시 반환한다.
+ * hit/miss/eviction 통계는 cache.* 메트릭으로, 실제 점유 중인 off-heap 크기는 image.cache.resident.bytes 로 노출한다.
+ */
+@Slf4j
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Component
+public class ImageFileCache {
+
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // 사용할 수 없다면 buffer 반환을 GC 에 맡김
+            log.warn("direct buffer 즉시 반환을 사용할 수 없습니다.", e);
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    private final Cache<String, CachedImageFile> cache;
+    private final AtomicLong residentBytes = new AtomicLong();
+    private final boolean enabled;
+    private final long maxEntryBytes;
+
+    public ImageFileCache(
+            MeterRegistry meterRegistry,
+            @Value("${image.cache.enabled}") boolean enabled,
+            @Value("${image.cache.maximum-bytes}") long maximumBytes,
+            @Value("${image.cache.max-entry-bytes}") long maxEntryBytes,
+            @Value("${image.cache.expire-after-access-seconds}") long expireAfterAccessSeconds
+    ) {
+        this.enabled = enabled;
+        this.maxEntryBytes = Math.min(maxEntryBytes, Integer.MAX_VALUE);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String storedFileName, CachedImageFile file) -> file.length())
+                .expireAfterAccess(Duration.ofSeconds(expireAfterAccessSeconds))
+                .removalListener((String storedFileName, CachedImageFile file, RemovalCause cause) -> {
+                    if (file != null) {
+                        file.release();
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "image-file");
+
+        Gauge.builder("image.cache.resident.bytes", residentBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("이미지 캐시가 점유 중인 off-heap 메모리 크기 (제거되었지만 전송 중인 buffer 포함)")
+                .register(meterRegistry);
+        Gauge.builder("image.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("이미지 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 이미지 파일 조회 (없다면 적재) 후 참조 추가
+     * 캐시를 사용하지 않거나 max-entry-bytes 보다 큰 파일이라면 null 을 반환하며, 사용 후 반드시 release 해야 한다.
+     */
+    public CachedImageFile acquire(
+            String storedFileName,
+            Path imagePath,
+            long fileLength
+    ) {
+        if (!enabled || fileLength == 0 || fileLength > maxEntryBytes) {
+            return null;
+        }
+
+        // 조회와 참조 추가 사이에 제거될 수 있으므로 한 번 더 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            CachedImageFile file;
+            try {
+                file = cache.get(storedFileName, name -> load(imagePath, fileLength));
+            } catch (UncheckedIOException e) {
+                log.warn("이미지 캐시 적재 실패 : {}", imagePath, e);
+                return null;
+            }
+
+            // 같은 이름으로 교체된 파일 (디폴트 이미지 등) 이라면 다시 적재
+            if (file.length() != fileLength) {
+                cache.asMap().remove(storedFileName, file);
+                continue;
+            }
+
+            if (file.retain()) {
+                return file;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 삭제된 이미지 파일 제거
+     */
+    public void invalidate(String storedFileName) {
+        cache.invalidate(storedFileName);
+    }
+
+    @PreDestroy
+    public void clear() {
+        cache.invalidateAll();
+        cache.cleanUp();
+    }
+
+    // 파일 전체를 direct buffer 로 읽음
+    private CachedImageFile load(
+            Path imagePath,
+            long fileLength
+    ) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) fileLength);
+        residentBytes.addAndGet(fileLength);
+
+        try (FileChannel fileChannel = FileChannel.open(imagePath, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (fileChannel.read(buffer) < 0) {
+                    throw new EOFException("이미지 파일 크기가 변경되었습니다. : " + imagePath);
+                }
+            }
+        } catch (IOException e) {
+            free(buffer);
+            throw new UncheckedIOException(e);
+        }
+
+        return new CachedImageFile(buffer.flip(), this);
+    }
+
+    // 참조가 모두 해제된 buffer 의 off-heap 메모리 반환
+    void free(ByteBuffer buffer) {
+        residentBytes.addAndGet(-buffer.capacity());
+
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            log.warn("direct buffer 반환 실패", e);
+        }
+    }
+}
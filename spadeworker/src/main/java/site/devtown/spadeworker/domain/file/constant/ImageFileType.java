@@ -3,6 +3,9 @@ package site.devtown.spadeworker.domain.file.constant;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 @Getter
 @RequiredArgsConstructor
 public enum ImageFileType {
@@ -15,4 +18,13 @@ public enum ImageFileType {
 
     private final String imageType;
     private final String description;
+
+    /**
+     * 저장 디렉토리 이름으로 이미지 타입 조회
+     */
+    public static Optional<ImageFileType> fromImageType(String imageType) {
+        return Arrays.stream(values())
+                .filter(type -> type.imageType.equals(imageType))
+                .findFirst();
+    }
 }
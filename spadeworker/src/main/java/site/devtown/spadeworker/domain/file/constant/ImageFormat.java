@@ -0,0 +1,24 @@
+package site.devtown.spadeworker.domain.file.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageFormat {
+
+    JPEG(List.of("jpg", "jpeg"), "JPEG 이미지"),
+    PNG(List.of("png"), "PNG 이미지");
+
+    private final List<String> extensions;
+    private final String description;
+
+    /**
+     * 확장자가 이 형식의 확장자인지 여부
+     */
+    public boolean matchesExtension(String extension) {
+        return extensions.contains(extension.toLowerCase());
+    }
+}
@@ -0,0 +1,68 @@
+package site.devtown.spadeworker.domain.file.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import site.devtown.spadeworker.domain.file.constant.ImageFileType;
+import site.devtown.spadeworker.domain.file.service.ImageFileResponseWriter;
+import site.devtown.spadeworker.domain.file.service.ImageFileService;
+import site.devtown.spadeworker.global.exception.ResourceNotFoundException;
+import site.devtown.spadeworker.global.util.ImageUtil;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static site.devtown.spadeworker.domain.file.exception.ImageFileExceptionCode.IMAGE_FILE_NOT_FOUND;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/images")
+@RestController
+public class ImageFileController {
+
+    private final ImageFileService imageFileService;
+    private final ImageFileResponseWriter imageFileResponseWriter;
+
+    /**
+     * 저장된 이미지 조회 API
+     */
+    @GetMapping("/{imageType}/{storedFileName:.+}")
+    public void getImage(
+            @PathVariable String imageType,
+            @PathVariable String storedFileName,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        ImageFileType imageFileType = ImageFileType.fromImageType(imageType)
+                .orElseThrow(() -> new ResourceNotFoundException(IMAGE_FILE_NOT_FOUND));
+
+        // UUID / SHA-256 기반 저장 이름과 디폴트 이미지만 응답 (업로드 중인 임시 파일 등은 차단, 경로 이동 차단)
+        if (!ImageUtil.isImmutableImageName(storedFileName) && !ImageUtil.isDefaultImageName(storedFileName)) {
+            throw new ResourceNotFoundException(IMAGE_FILE_NOT_FOUND);
+        }
+
+        // 오브젝트 스토리지라면 pre-signed URL 로 redirect 하여 스토리지에서 직접 내려받도록 함
+        Optional<String> directReadUrl = imageFileService.getDirectReadUrl(imageFileType, storedFileName);
+        if (directReadUrl.isPresent()) {
+            response.sendRedirect(directReadUrl.get());
+            return;
+        }
+
+        Path imagePath = Path.of(imageFileService.resolveFileStoredFullPath(imageFileType, storedFileName));
+
+        long fileLength;
+        try {
+            fileLength = Files.size(imagePath);
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException(IMAGE_FILE_NOT_FOUND);
+        }
+
+        imageFileResponseWriter.write(imagePath, storedFileName, fileLength, request, response);
+    }
+}
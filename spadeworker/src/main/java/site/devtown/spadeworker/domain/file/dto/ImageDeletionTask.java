@@ -0,0 +1,18 @@
+package site.devtown.spadeworker.domain.file.dto;
+
+/**
+ * 처리 대기 중인 이미지 파일 삭제 요청
+ */
+public record ImageDeletionTask(
+        Long id,
+        String storedFullPath,
+        int attemptCount
+) {
+    public static ImageDeletionTask of(
+            Long id,
+            String storedFullPath,
+            int attemptCount
+    ) {
+        return new ImageDeletionTask(id, storedFullPath, attemptCount);
+    }
+}
@@ -0,0 +1,27 @@
+package site.devtown.spadeworker.domain.file.dto;
+
+import site.devtown.spadeworker.domain.file.constant.ImageFormat;
+
+/**
+ * 이미지 헤더에서 읽은 실제 형식과 해상도
+ */
+public record ImageHeader(
+        ImageFormat format,
+        int width,
+        int height
+) {
+    public static ImageHeader of(
+            ImageFormat format,
+            int width,
+            int height
+    ) {
+        return new ImageHeader(format, width, height);
+    }
+
+    /**
+     * 전체 픽셀 수
+     */
+    public long pixelCount() {
+        return (long) width * height;
+    }
+}
@@ -0,0 +1,31 @@
+package site.devtown.spadeworker.domain.file.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import site.devtown.spadeworker.global.config.audit.BaseTimeEntity;
+import site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator;
+
+import javax.persistence.*;
+
+/**
+ * 내용 주소 (SHA-256) 기반으로 저장된 이미지 파일과 참조 수
+ * 디렉토리 구조 (flat / sharded) 와 관계없도록 저장 이름으로 식별하며, 참조 수는 ImageBlobRepository 가 JDBC 로 갱신한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ImageBlob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(generator = TsidIdentifierGenerator.NAME)
+    @GenericGenerator(name = TsidIdentifierGenerator.NAME, strategy = TsidIdentifierGenerator.STRATEGY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String storedFileName;
+
+    @Column(nullable = false)
+    private int referenceCount;
+}
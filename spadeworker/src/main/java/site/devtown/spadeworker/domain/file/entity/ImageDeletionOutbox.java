@@ -0,0 +1,40 @@
+package site.devtown.spadeworker.domain.file.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import site.devtown.spadeworker.global.config.audit.BaseTimeEntity;
+import site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 요청 트랜잭션과 함께 기록되는 이미지 파일 삭제 요청
+ * 커밋된 요청만 ImageFileDeletionService 가 주기적으로 읽어 삭제하며, 기록은 ImageDeletionOutboxRepository 가 JDBC 로 처리한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(
+        name = "idx_image_deletion_outbox_available_at",
+        columnList = "available_at"
+))
+@Entity
+public class ImageDeletionOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(generator = TsidIdentifierGenerator.NAME)
+    @GenericGenerator(name = TsidIdentifierGenerator.NAME, strategy = TsidIdentifierGenerator.STRATEGY)
+    private Long id;
+
+    @Column(length = 1000, nullable = false)
+    private String storedFullPath;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    // 이 시각 이후에 처리 (재시도 대기 및 처리 중인 요청의 lease)
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+}
@@ -0,0 +1,20 @@
+package site.devtown.spadeworker.domain.file.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import site.devtown.spadeworker.global.exception.ExceptionCode;
+
+import static org.springframework.http.HttpStatus.*;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageFileExceptionCode
+        implements ExceptionCode {
+
+    IMAGE_FILE_NOT_FOUND(NOT_FOUND, "IF-C-001", "이미지 리소스가 존재하지 않습니다.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String message;
+}
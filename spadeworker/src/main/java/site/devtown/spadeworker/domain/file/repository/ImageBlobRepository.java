@@ -0,0 +1,91 @@
+package site.devtown.spadeworker.domain.file.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import site.devtown.spadeworker.global.util.TsidUtil;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 내용 주소 기반 이미지 파일의 참조 수를 JDBC 로 갱신하는 Repository
+ * 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ImageBlobRepository {
+
+    private static final String INCREMENT_SQL =
+            "update image_blob set reference_count = reference_count + 1, updated_at = ? where stored_file_name = ?";
+    private static final String INSERT_SQL = """
+            insert into image_blob (id, stored_file_name, reference_count, created_at, updated_at)
+            values (?, ?, 1, ?, ?)
+            """;
+    private static final String DECREMENT_SQL = """
+            update image_blob set reference_count = reference_count - 1, updated_at = ?
+            where stored_file_name = ? and reference_count > 0
+            """;
+    private static final String DELETE_UNREFERENCED_SQL =
+            "delete from image_blob where stored_file_name = ? and reference_count = 0";
+
+    private static final String FIND_STORED_FILE_NAMES_SQL =
+            "select stored_file_name from image_blob where stored_file_name in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 참조 수 1 증가 후 새로 등록된 파일인지 여부 반환
+     */
+    public boolean increment(String storedFileName) {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (jdbcTemplate.update(INCREMENT_SQL, now, storedFileName) > 0) {
+            return false;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, TsidUtil.nextId(), storedFileName, now, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 파일이 등록된 경우
+            jdbcTemplate.update(INCREMENT_SQL, now, storedFileName);
+            return false;
+        }
+    }
+
+    /**
+     * 참조 수 1 감소 후 갱신된 row 수 반환 (참조 수가 관리되지 않는 파일이라면 0)
+     */
+    public int decrement(String storedFileName) {
+        return jdbcTemplate.update(DECREMENT_SQL, LocalDateTime.now(), storedFileName);
+    }
+
+    /**
+     * 더 이상 참조되지 않는 파일이라면 등록 정보 삭제 후 삭제 여부 반환
+     */
+    public boolean deleteIfUnreferenced(String storedFileName) {
+        return jdbcTemplate.update(DELETE_UNREFERENCED_SQL, storedFileName) > 0;
+    }
+
+    /**
+     * 주어진 저장 이름 중 참조 수가 관리되고 있는 이름 조회
+     */
+    public Set<String> findStoredFileNamesIn(Collection<String> storedFileNames) {
+        if (storedFileNames.isEmpty()) {
+            return Set.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(storedFileNames.size(), "?"));
+
+        return new HashSet<>(jdbcTemplate.queryForList(
+                FIND_STORED_FILE_NAMES_SQL.formatted(placeholders),
+                String.class,
+                storedFileNames.toArray()
+        ));
+    }
+}
@@ -0,0 +1,108 @@
+package site.devtown.spadeworker.domain.file.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import site.devtown.spadeworker.domain.file.dto.ImageDeletionTask;
+import site.devtown.spadeworker.global.util.TsidUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이미지 파일 삭제 요청 outbox 를 JDBC 로 기록/조회하는 Repository
+ * 기록은 호출한 트랜잭션에 참여하므로 롤백되면 삭제 요청도 함께 사라진다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ImageDeletionOutboxRepository {
+
+    private static final String INSERT_SQL = """
+            insert into image_deletion_outbox (id, stored_full_path, attempt_count, available_at, created_at, updated_at)
+            values (?, ?, 0, ?, ?, ?)
+            """;
+    private static final String FIND_AVAILABLE_SQL = """
+            select id, stored_full_path, attempt_count
+            from image_deletion_outbox
+            where available_at <= ?
+            order by available_at
+            limit ?
+            """;
+    private static final String CLAIM_SQL = """
+            update image_deletion_outbox set available_at = ?, updated_at = ?
+            where id = ? and available_at <= ?
+            """;
+    private static final String RESCHEDULE_SQL = """
+            update image_deletion_outbox set attempt_count = ?, available_at = ?, updated_at = ?
+            where id = ?
+            """;
+    private static final String DELETE_SQL =
+            "delete from image_deletion_outbox where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 삭제 요청 기록
+     */
+    public void save(String storedFullPath) {
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.update(INSERT_SQL, TsidUtil.nextId(), storedFullPath, now, now, now);
+    }
+
+    /**
+     * 처리 가능한 삭제 요청을 오래된 순서로 조회
+     */
+    public List<ImageDeletionTask> findAvailable(
+            LocalDateTime now,
+            int limit
+    ) {
+        return jdbcTemplate.query(
+                FIND_AVAILABLE_SQL,
+                (rs, rowNum) -> ImageDeletionTask.of(
+                        rs.getLong("id"),
+                        rs.getString("stored_full_path"),
+                        rs.getInt("attempt_count")
+                ),
+                now,
+                limit
+        );
+    }
+
+    /**
+     * 다른 인스턴스가 가져가지 않은 요청만 leaseUntil 까지 점유 후 요청별 점유된 행 수 반환
+     */
+    public int[] claimAll(
+            List<ImageDeletionTask> tasks,
+            LocalDateTime now,
+            LocalDateTime leaseUntil
+    ) {
+        List<Object[]> batchArgs = tasks.stream()
+                .map(task -> new Object[]{leaseUntil, now, task.id(), now})
+                .toList();
+
+        return jdbcTemplate.batchUpdate(CLAIM_SQL, batchArgs);
+    }
+
+    /**
+     * 실패한 요청의 시도 횟수와 다음 처리 시각 갱신
+     */
+    public void reschedule(
+            Long id,
+            int attemptCount,
+            LocalDateTime availableAt
+    ) {
+        jdbcTemplate.update(RESCHEDULE_SQL, attemptCount, availableAt, LocalDateTime.now(), id);
+    }
+
+    /**
+     * 처리가 끝난 요청들을 batch delete
+     */
+    public void deleteAllByIdIn(List<Long> ids) {
+        List<Object[]> batchArgs = ids.stream()
+                .map(id -> new Object[]{id})
+                .toList();
+
+        jdbcTemplate.batchUpdate(DELETE_SQL, batchArgs);
+    }
+}
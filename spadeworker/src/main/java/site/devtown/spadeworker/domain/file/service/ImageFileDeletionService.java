@@ -0,0 +1,124 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.devtown.spadeworker.domain.file.dto.ImageDeletionTask;
+import site.devtown.spadeworker.domain.file.exception.ImageFileNotFoundException;
+import site.devtown.spadeworker.domain.file.repository.ImageDeletionOutboxRepository;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * outbox 기반 이미지 파일 지연 삭제
+ * 삭제 요청은 요청 트랜잭션 안에서 outbox 에 기록되고, 커밋된 요청만 스케줄러가 batch 단위로 읽어 삭제한다.
+ * 실패한 삭제는 지수 backoff 로 재시도하며, 최대 시도 횟수를 넘기면 요청을 버린다. (남은 파일은 고아 파일로 정리)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Service
+public class ImageFileDeletionService {
+
+    // 재시도 간격 상한 (base * 2^16)
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+
+    private final ImageDeletionOutboxRepository imageDeletionOutboxRepository;
+    private final ImageFileService imageFileService;
+
+    @Value("${image.deletion.batch-size}")
+    private int batchSize;
+    @Value("${image.deletion.lease-millis}")
+    private long leaseMillis;
+    @Value("${image.deletion.max-attempts}")
+    private int maxAttempts;
+    @Value("${image.deletion.retry-base-delay-millis}")
+    private long retryBaseDelayMillis;
+
+    /**
+     * 현재 트랜잭션에 이미지 파일 삭제 요청 기록 (커밋된 후에만 삭제됨)
+     */
+    @Transactional
+    public void deleteAfterCommit(String fileStoredFullPath) {
+        imageDeletionOutboxRepository.save(fileStoredFullPath);
+    }
+
+    /**
+     * 처리 가능한 삭제 요청을 batch 하나만큼 처리
+     * 공용 스케줄러 스레드를 오래 점유하지 않도록 실행마다 한 batch 만 처리하고, 남은 요청은 다음 실행에서 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${image.deletion.poll-delay-millis}")
+    public synchronized void drain() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageDeletionTask> tasks = imageDeletionOutboxRepository.findAvailable(now, batchSize);
+
+        if (!tasks.isEmpty()) {
+            process(claim(tasks, now));
+        }
+    }
+
+    // 다른 인스턴스와 같은 요청을 중복 처리하지 않도록 lease 를 잡은 요청만 반환
+    private List<ImageDeletionTask> claim(
+            List<ImageDeletionTask> tasks,
+            LocalDateTime now
+    ) {
+        int[] claimedCounts = imageDeletionOutboxRepository.claimAll(tasks, now, now.plus(leaseMillis, ChronoUnit.MILLIS));
+
+        List<ImageDeletionTask> claimed = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            if (claimedCounts[i] > 0) {
+                claimed.add(tasks.get(i));
+            }
+        }
+
+        return claimed;
+    }
+
+    private void process(List<ImageDeletionTask> tasks) {
+        List<Long> completedIds = new ArrayList<>(tasks.size());
+
+        for (ImageDeletionTask task : tasks) {
+            try {
+                imageFileService.deleteFile(task.storedFullPath());
+                completedIds.add(task.id());
+            } catch (ImageFileNotFoundException e) {
+                // 이미 삭제된 파일
+                completedIds.add(task.id());
+            } catch (RuntimeException e) {
+                if (task.attemptCount() + 1 >= maxAttempts) {
+                    log.error("이미지 파일 삭제 포기 : {} ({} 회 실패)", task.storedFullPath(), task.attemptCount() + 1, e);
+                    completedIds.add(task.id());
+                } else {
+                    log.warn("이미지 파일 삭제 실패, 재시도 예정 : {}", task.storedFullPath(), e);
+                    retryLater(task);
+                }
+            }
+        }
+
+        if (!completedIds.isEmpty()) {
+            imageDeletionOutboxRepository.deleteAllByIdIn(completedIds);
+        }
+    }
+
+    private void retryLater(ImageDeletionTask task) {
+        int attemptCount = task.attemptCount() + 1;
+        long delayMillis = retryBaseDelayMillis << Math.min(attemptCount - 1, MAX_BACKOFF_EXPONENT);
+
+        imageDeletionOutboxRepository.reschedule(
+                task.id(),
+                attemptCount,
+                LocalDateTime.now().plus(delayMillis, ChronoUnit.MILLIS)
+        );
+    }
+}
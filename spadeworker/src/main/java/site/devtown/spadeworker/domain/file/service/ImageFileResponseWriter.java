@@ -0,0 +1,209 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import site.devtown.spadeworker.domain.file.cache.CachedImageFile;
+import site.devtown.spadeworker.domain.file.cache.ImageFileCache;
+import site.devtown.spadeworker.global.util.ImageUtil;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 저장된 이미지 파일을 응답 본문으로 전송
+ * UUID / SHA-256 기반 저장 이름은 내용이 바뀌지 않으므로 저장 이름을 ETag 로 사용하고 immutable 캐시 헤더를 설정한다.
+ * 디폴트 이미지처럼 같은 이름으로 교체될 수 있는 파일은 수정 시각과 크기로 ETag 를 만들고 매번 재검증하도록 한다.
+ * 자주 요청되는 작은 이미지는 off-heap 캐시에서, 그 외에는 Tomcat 이 sendfile 을 지원하면 커널 zero-copy 로,
+ * 아니라면 FileChannel.transferTo 로 전송한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ImageFileResponseWriter {
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE_CACHE_CONTROL = "public, no-cache";
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 sendfile 준비 비용이 더 크므로 직접 전송 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final ImageFileCache imageFileCache;
+
+    /**
+     * 이미지 파일을 조건부 요청 / Range 요청에 맞춰 전송
+     */
+    public void write(
+            Path imagePath,
+            String storedFileName,
+            long fileLength,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean immutable = ImageUtil.isImmutableImageName(storedFileName);
+        String eTag = immutable ?
+                "\"" + storedFileName + "\"" :
+                "\"" + storedFileName + "-" + Long.toHexString(Files.getLastModifiedTime(imagePath).toMillis())
+                        + "-" + Long.toHexString(fileLength) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 클라이언트가 가진 이미지와 같다면 304 응답
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(
+                MediaTypeFactory.getMediaType(storedFileName)
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                        .toString()
+        );
+
+        long start = 0;
+        long end = fileLength - 1;
+
+        // If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체 전송
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        String range = (ifRange == null || ifRange.equals(eTag)) ? request.getHeader(HttpHeaders.RANGE) : null;
+
+        if (range != null) {
+            long[] byteRange = parseRange(range, fileLength);
+
+            if (byteRange == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+
+            if (byteRange.length == 2) {
+                start = byteRange[0];
+                end = byteRange[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileLength);
+            }
+        }
+
+        long contentLength = end - start + 1;
+        response.setContentLengthLong(contentLength);
+
+        if ("HEAD".equals(request.getMethod()) || contentLength == 0) {
+            return;
+        }
+
+        // 캐시된 이미지는 디스크를 읽지 않고 direct buffer 에서 응답 스트림으로 전송
+        CachedImageFile cachedImageFile = imageFileCache.acquire(storedFileName, imagePath, fileLength);
+        if (cachedImageFile != null) {
+            try {
+                writeBuffer(cachedImageFile.slice(start, contentLength), response.getOutputStream());
+            } finally {
+                cachedImageFile.release();
+            }
+            return;
+        }
+
+        // Tomcat sendfile : 응답 본문을 쓰지 않고 파일 정보만 넘기면 커넥터가 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR)) && contentLength >= SENDFILE_MIN_SIZE) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, imagePath.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(imagePath, StandardOpenOption.READ)) {
+            WritableByteChannel responseChannel = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = contentLength;
+
+            while (remaining > 0) {
+                long transferred = fileChannel.transferTo(position, remaining, responseChannel);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    // 서블릿 컨테이너와 관계없이 표준 채널로 전송 (채널이 작은 힙 배열을 거쳐 응답 스트림에 씀)
+    private void writeBuffer(
+            ByteBuffer buffer,
+            OutputStream outputStream
+    ) throws IOException {
+        WritableByteChannel responseChannel = Channels.newChannel(outputStream);
+        while (buffer.hasRemaining()) {
+            responseChannel.write(buffer);
+        }
+    }
+
+    // If-None-Match 헤더에 현재 ETag (또는 *) 가 포함되는지 여부
+    private boolean matchesETag(
+            String ifNoneMatch,
+            String eTag
+    ) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals(eTag) || tag.equals("*"));
+    }
+
+    // 단일 byte range 파싱 ([start, end] / 무시할 Range 라면 빈 배열 / 만족할 수 없다면 null)
+    private long[] parseRange(
+            String range,
+            long fileLength
+    ) {
+        if (!range.startsWith("bytes=") || range.contains(",")) {
+            return new long[0];
+        }
+
+        String spec = range.substring("bytes=".length()).trim();
+        int dashIndex = spec.indexOf('-');
+        if (dashIndex < 0) {
+            return new long[0];
+        }
+
+        try {
+            String startSpec = spec.substring(0, dashIndex).trim();
+            String endSpec = spec.substring(dashIndex + 1).trim();
+
+            // bytes=-N : 마지막 N 바이트
+            if (startSpec.isEmpty()) {
+                long suffixLength = Long.parseLong(endSpec);
+                if (suffixLength <= 0 || fileLength == 0) {
+                    return null;
+                }
+                return new long[]{Math.max(0, fileLength - suffixLength), fileLength - 1};
+            }
+
+            long start = Long.parseLong(startSpec);
+            long end = endSpec.isEmpty() ? fileLength - 1 : Math.min(Long.parseLong(endSpec), fileLength - 1);
+            if (start >= fileLength || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -3,6 +3,8 @@ package site.devtown.spadeworker.domain.file.service;
 import org.springframework.web.multipart.MultipartFile;
 import site.devtown.spadeworker.domain.file.constant.ImageFileType;
 
+import java.util.Optional;
+
 public interface ImageFileService {
     String uploadFile(
             ImageFileType imageFileType,
@@ -19,5 +21,15 @@ public interface ImageFileService {
             String storedFileName
     );
 
+    String resolveFileStoredFullPath(
+            ImageFileType imageFileType,
+            String storedFileName
+    );
+
+    Optional<String> getDirectReadUrl(
+            ImageFileType imageFileType,
+            String storedFileName
+    );
+
     void deleteFile(String fileStoredFullPath);
 }
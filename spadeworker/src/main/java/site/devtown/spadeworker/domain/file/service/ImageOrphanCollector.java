@@ -0,0 +1,322 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import site.devtown.spadeworker.domain.file.cache.ImageFileCache;
+import site.devtown.spadeworker.domain.file.constant.ImageFileType;
+import site.devtown.spadeworker.domain.file.repository.ImageBlobRepository;
+import site.devtown.spadeworker.domain.project.repository.ProjectRepository;
+import site.devtown.spadeworker.domain.user.repository.UserRepository;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+import site.devtown.spadeworker.global.util.ImageUtil;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 어떤 프로젝트 썸네일 / 사용자 프로필 / 내용 주소 기반 파일 등록 정보에서도 참조하지 않는 이미지 파일 정리
+ * 이미지 타입 디렉토리를 순회하며 유예 기간이 지난 파일을 batch 단위로 DB 와 대조하고, 초당 삭제 수를 제한하며 삭제한다.
+ * 리사이즈 이미지는 같은 디렉토리에 원본이 없을 때만, 업로드 중 남은 임시 파일은 유예 기간이 지나면 삭제한다.
+ * 순회와 삭제는 오래 걸릴 수 있으므로 공용 스케줄러 스레드가 아닌 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Component
+public class ImageOrphanCollector {
+
+    // 리사이즈 이미지 이름 : {원본 이름}_w{width}.jpg
+    private static final Pattern VARIANT_NAME_PATTERN = Pattern.compile("^(.+)_w\\d+\\.jpg$");
+    private static final String TEMP_FILE_PREFIX = "upload-";
+
+    private final ImageStorageLayout imageStorageLayout;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageFileCache imageFileCache;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final Counter reclaimedBytes;
+    private final Counter deletedFiles;
+    private final ExecutorService worker;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${image.gc.enabled}")
+    private boolean enabled;
+    @Value("${image.gc.grace-period-hours}")
+    private long gracePeriodHours;
+    @Value("${image.gc.batch-size}")
+    private int batchSize;
+    @Value("${image.gc.files-per-second}")
+    private int filesPerSecond;
+
+    public ImageOrphanCollector(
+            ImageStorageLayout imageStorageLayout,
+            ImageBlobRepository imageBlobRepository,
+            ImageFileCache imageFileCache,
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.imageStorageLayout = imageStorageLayout;
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageFileCache = imageFileCache;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.reclaimedBytes = Counter.builder("image.gc.reclaimed")
+                .baseUnit("bytes")
+                .description("고아 이미지 파일 정리로 회수한 디스크 용량")
+                .register(meterRegistry);
+        this.deletedFiles = Counter.builder("image.gc.deleted.files")
+                .description("정리된 고아 이미지 파일 수")
+                .register(meterRegistry);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("image-orphan-collector-");
+        threadFactory.setDaemon(true);
+        this.worker = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    /**
+     * 전체 이미지 타입 디렉토리의 고아 파일 정리를 전용 스레드에서 시작 (이전 정리가 진행 중이라면 건너뜀)
+     */
+    @Scheduled(cron = "${image.gc.cron}")
+    public void collect() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        worker.execute(() -> {
+            try {
+                collectAll();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();
+    }
+
+    // 이미지 타입 디렉토리별로 순회하며 정리
+    private void collectAll() {
+        Instant cutoff = Instant.now().minus(gracePeriodHours, ChronoUnit.HOURS);
+        long startBytes = (long) reclaimedBytes.count();
+        long startFiles = (long) deletedFiles.count();
+
+        for (ImageFileType imageFileType : ImageFileType.values()) {
+            Path directory = imageStorageLayout.directoryOf(imageFileType);
+            if (Files.notExists(directory)) {
+                continue;
+            }
+
+            try {
+                if (!collect(imageFileType, directory, cutoff)) {
+                    break;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("고아 이미지 파일 정리 실패 : {}", imageFileType.getImageType(), e);
+            }
+        }
+
+        log.info(
+                "고아 이미지 파일 정리 완료 : {} 건, {} bytes",
+                (long) deletedFiles.count() - startFiles,
+                (long) reclaimedBytes.count() - startBytes
+        );
+    }
+
+    // 디렉토리를 순회하며 유예 기간이 지난 파일을 batch 단위로 정리 (중단되었다면 false)
+    private boolean collect(
+            ImageFileType imageFileType,
+            Path directory,
+            Instant cutoff
+    ) throws IOException {
+        List<Path> candidates = new ArrayList<>(batchSize);
+        boolean[] completed = {true};
+
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                // staging 등 숨김 디렉토리는 제외
+                return (!dir.equals(directory) && dir.getFileName().toString().startsWith(".")) ?
+                        FileVisitResult.SKIP_SUBTREE :
+                        FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && attrs.lastModifiedTime().toInstant().isBefore(cutoff)) {
+                    candidates.add(file);
+                }
+
+                if (candidates.size() >= batchSize) {
+                    completed[0] = collectBatch(imageFileType, candidates);
+                    candidates.clear();
+                }
+
+                return completed[0] ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                log.warn("이미지 파일 확인 실패 : {}", file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        if (completed[0] && !candidates.isEmpty()) {
+            completed[0] = collectBatch(imageFileType, candidates);
+        }
+
+        return completed[0];
+    }
+
+    // 참조되지 않는 후보 파일 삭제 (중단되었다면 false)
+    private boolean collectBatch(
+            ImageFileType imageFileType,
+            List<Path> candidates
+    ) {
+        List<Path> originals = new ArrayList<>();
+        List<Path> orphans = new ArrayList<>();
+
+        for (Path candidate : candidates) {
+            String fileName = candidate.getFileName().toString();
+
+            if (fileName.startsWith(".") || ImageUtil.isDefaultImageName(fileName)) {
+                continue;
+            }
+
+            if (fileName.startsWith(TEMP_FILE_PREFIX)) {
+                orphans.add(candidate);
+                continue;
+            }
+
+            Matcher variantMatcher = VARIANT_NAME_PATTERN.matcher(fileName);
+            if (variantMatcher.matches()) {
+                if (!hasOriginal(candidate, variantMatcher.group(1))) {
+                    orphans.add(candidate);
+                }
+                continue;
+            }
+
+            originals.add(candidate);
+        }
+
+        orphans.addAll(findUnreferenced(imageFileType, originals));
+
+        return delete(orphans);
+    }
+
+    // 저장 당시의 디렉토리 구조와 관계없이 참조되도록 두 구조의 경로를 모두 DB 와 대조
+    private List<Path> findUnreferenced(
+            ImageFileType imageFileType,
+            List<Path> originals
+    ) {
+        if (originals.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> storedPaths = new HashSet<>();
+        Set<String> storedFileNames = new HashSet<>();
+        for (Path original : originals) {
+            storedPaths.addAll(storedPathsOf(imageFileType, original));
+            storedFileNames.add(original.getFileName().toString());
+        }
+
+        Set<String> referencedPaths = new HashSet<>();
+        referencedPaths.addAll(projectRepository.findReferencedThumbnailImageUris(storedPaths));
+        referencedPaths.addAll(userRepository.findReferencedProfileImageUris(storedPaths));
+        // 내용 주소 기반 파일은 디렉토리 구조와 관계없이 저장 이름으로 대조
+        Set<String> referencedFileNames = imageBlobRepository.findStoredFileNamesIn(storedFileNames);
+
+        return originals.stream()
+                .filter(original -> !referencedFileNames.contains(original.getFileName().toString()))
+                .filter(original -> storedPathsOf(imageFileType, original).stream().noneMatch(referencedPaths::contains))
+                .toList();
+    }
+
+    private Set<String> storedPathsOf(
+            ImageFileType imageFileType,
+            Path file
+    ) {
+        String fileName = file.getFileName().toString();
+
+        return Set.of(
+                file.toString(),
+                imageStorageLayout.flatPathOf(imageFileType, fileName).toString(),
+                imageStorageLayout.shardedPathOf(imageFileType, fileName).toString()
+        );
+    }
+
+    // 리사이즈 이미지와 같은 디렉토리에 원본 파일이 남아 있는지 여부
+    private boolean hasOriginal(
+            Path variant,
+            String originalBaseName
+    ) {
+        try (DirectoryStream<Path> originals = Files.newDirectoryStream(
+                variant.getParent(),
+                path -> path.getFileName().toString().startsWith(originalBaseName + ".")
+        )) {
+            return originals.iterator().hasNext();
+        } catch (IOException e) {
+            // 확인할 수 없다면 삭제하지 않음
+            return true;
+        }
+    }
+
+    // 초당 삭제 수를 제한하며 삭제 (중단되었다면 false)
+    private boolean delete(List<Path> orphans) {
+        long pauseNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(filesPerSecond, 1);
+
+        for (Path orphan : orphans) {
+            try {
+                long size = Files.size(orphan);
+                if (Files.deleteIfExists(orphan)) {
+                    imageFileCache.invalidate(orphan.getFileName().toString());
+                    reclaimedBytes.increment(size);
+                    deletedFiles.increment();
+                }
+            } catch (NoSuchFileException e) {
+                // 이미 삭제된 파일
+            } catch (IOException e) {
+                log.warn("고아 이미지 파일 삭제 실패 : {}", orphan, e);
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
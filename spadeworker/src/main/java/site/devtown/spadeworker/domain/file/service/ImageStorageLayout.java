@@ -0,0 +1,143 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import site.devtown.spadeworker.domain.file.constant.ImageFileType;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 로컬 이미지 저장소의 디렉토리 구조
+ * flat : {root}/{imageType}/{storedFileName}
+ * sharded : {root}/{imageType}/{ab}/{cd}/{storedFileName} (ab, cd 는 저장 이름에서 얻은 hex prefix)
+ * 저장 이름의 UUID / SHA-256 앞 4자리를 shard 로 사용하므로 원본과 리사이즈 이미지는 같은 디렉토리에 위치한다.
+ * 이전 중에도 조회할 수 있도록 두 구조를 모두 확인하는 resolve 를 제공한다.
+ */
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Component
+public class ImageStorageLayout {
+
+    @Value("${image.local-image-storage-location}")
+    private String localFileStorageLocation;
+    @Value("${image.storage.sharded}")
+    private boolean sharded;
+
+    /**
+     * sharded 구조 사용 여부
+     */
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    /**
+     * 이미지 타입별 저장 디렉토리
+     */
+    public Path directoryOf(ImageFileType imageFileType) {
+        return Path.of(localFileStorageLocation, imageFileType.getImageType());
+    }
+
+    /**
+     * 현재 설정된 구조의 저장 경로
+     */
+    public Path pathOf(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        return sharded ?
+                shardedPathOf(imageFileType, storedFileName) :
+                flatPathOf(imageFileType, storedFileName);
+    }
+
+    /**
+     * flat 구조의 저장 경로
+     */
+    public Path flatPathOf(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        return directoryOf(imageFileType).resolve(storedFileName);
+    }
+
+    /**
+     * sharded 구조의 저장 경로
+     */
+    public Path shardedPathOf(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        String shard = shardOf(storedFileName);
+
+        return directoryOf(imageFileType)
+                .resolve(shard.substring(0, 2))
+                .resolve(shard.substring(2, 4))
+                .resolve(storedFileName);
+    }
+
+    /**
+     * 두 구조 중 실제 파일이 있는 경로 (없다면 현재 설정된 구조의 경로)
+     */
+    public Path resolve(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        Path configured = pathOf(imageFileType, storedFileName);
+        if (Files.exists(configured)) {
+            return configured;
+        }
+
+        Path other = sharded ?
+                flatPathOf(imageFileType, storedFileName) :
+                shardedPathOf(imageFileType, storedFileName);
+        if (Files.exists(other)) {
+            return other;
+        }
+
+        // 두 경로를 확인하는 사이 이전이 끝난 경우에도 configured 경로가 맞는 경로
+        return configured;
+    }
+
+    /**
+     * 저장된 전체 경로로 두 구조 중 실제 파일이 있는 경로 조회
+     */
+    public Path resolve(String fileStoredFullPath) {
+        Path path = Path.of(fileStoredFullPath);
+        if (Files.exists(path)) {
+            return path;
+        }
+
+        return imageFileTypeOf(path)
+                .map(imageFileType -> resolve(imageFileType, path.getFileName().toString()))
+                .orElse(path);
+    }
+
+    // 저장소 root 바로 아래 디렉토리 이름으로 이미지 타입 조회
+    private Optional<ImageFileType> imageFileTypeOf(Path path) {
+        Path root = Path.of(localFileStorageLocation);
+        if (!path.startsWith(root) || path.getNameCount() <= root.getNameCount()) {
+            return Optional.empty();
+        }
+
+        return ImageFileType.fromImageType(root.relativize(path).getName(0).toString());
+    }
+
+    // 저장 이름의 '_' 뒤 4자리가 hex 라면 그대로, 아니라면 이름의 hash 로 shard 결정
+    private String shardOf(String storedFileName) {
+        int separatorIndex = storedFileName.indexOf('_');
+        String candidate = (separatorIndex >= 0 && storedFileName.length() >= separatorIndex + 5) ?
+                storedFileName.substring(separatorIndex + 1, separatorIndex + 5).toLowerCase() :
+                "";
+
+        if (candidate.chars().allMatch(c -> Character.digit(c, 16) >= 0) && candidate.length() == 4) {
+            return candidate;
+        }
+
+        return String.format("%08x", storedFileName.hashCode()).substring(0, 4);
+    }
+}
@@ -0,0 +1,161 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import site.devtown.spadeworker.domain.file.constant.ImageFileType;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+import site.devtown.spadeworker.global.util.ImageUtil;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * flat 구조로 저장된 기존 이미지를 sharded 구조로 옮기는 온라인 이전 작업
+ * 서비스 중에 백그라운드 스레드에서 초당 이동 수를 제한하며 파일 단위 atomic move 로 옮긴다.
+ * 이전 중의 조회/삭제는 ImageStorageLayout 이 두 구조를 모두 확인하므로 중단 없이 처리된다.
+ */
+@Slf4j
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Component
+public class ImageStorageShardMigrator {
+
+    private static final int PROGRESS_LOG_INTERVAL = 10_000;
+
+    private final ImageStorageLayout imageStorageLayout;
+    private final boolean enabled;
+    private final long pauseNanosPerFile;
+
+    private volatile boolean stopped = false;
+    private Thread worker;
+
+    public ImageStorageShardMigrator(
+            ImageStorageLayout imageStorageLayout,
+            @Value("${image.storage.shard-migration.enabled}") boolean enabled,
+            @Value("${image.storage.shard-migration.files-per-second}") int filesPerSecond
+    ) {
+        this.imageStorageLayout = imageStorageLayout;
+        this.enabled = enabled;
+        this.pauseNanosPerFile = TimeUnit.SECONDS.toNanos(1) / Math.max(filesPerSecond, 1);
+    }
+
+    /**
+     * 애플리케이션 시작 후 이전 작업 시작 (sharded 구조가 활성화된 경우에만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        if (!imageStorageLayout.isSharded()) {
+            log.warn("image.storage.sharded 가 비활성화되어 있어 이미지 저장소 이전을 시작하지 않습니다.");
+            return;
+        }
+
+        worker = new Thread(this::migrateAll, "image-storage-shard-migrator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    // 이미지 타입 디렉토리별로 flat 구조 파일 이전
+    private void migrateAll() {
+        long movedCount = 0;
+
+        for (ImageFileType imageFileType : ImageFileType.values()) {
+            if (stopped) {
+                break;
+            }
+
+            try {
+                movedCount += migrate(imageFileType);
+            } catch (IOException e) {
+                log.error("이미지 저장소 이전 실패 : {}", imageFileType.getImageType(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        log.info("이미지 저장소 이전 종료 : {} 건 이동", movedCount);
+    }
+
+    // 타입 디렉토리 바로 아래의 일반 파일만 이동 (shard 디렉토리와 작업 중인 임시 파일은 제외)
+    private long migrate(ImageFileType imageFileType) throws IOException, InterruptedException {
+        Path typeDirectory = imageStorageLayout.directoryOf(imageFileType);
+        if (Files.notExists(typeDirectory)) {
+            return 0;
+        }
+
+        long movedCount = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(typeDirectory, this::isMigrationTarget)) {
+            for (Path source : files) {
+                if (stopped) {
+                    break;
+                }
+
+                if (move(imageFileType, source)) {
+                    movedCount++;
+                    if (movedCount % PROGRESS_LOG_INTERVAL == 0) {
+                        log.info("이미지 저장소 이전 중 : {} {} 건", imageFileType.getImageType(), movedCount);
+                    }
+                }
+
+                TimeUnit.NANOSECONDS.sleep(pauseNanosPerFile);
+            }
+        }
+
+        return movedCount;
+    }
+
+    private boolean move(
+            ImageFileType imageFileType,
+            Path source
+    ) {
+        Path target = imageStorageLayout.shardedPathOf(imageFileType, source.getFileName().toString());
+
+        try {
+            Files.createDirectories(target.getParent());
+            // 같은 이름의 파일이 이미 있다면 같은 내용(UUID / SHA-256 이름)이므로 덮어써도 무방
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (NoSuchFileException e) {
+            // 이동 전에 삭제된 파일
+            return false;
+        } catch (IOException e) {
+            log.warn("이미지 파일 이동 실패 : {}", source, e);
+            return false;
+        }
+    }
+
+    private boolean isMigrationTarget(Path path) {
+        String fileName = path.getFileName().toString();
+
+        // 디폴트 이미지는 설정된 고정 경로(default-image-uri)로 참조되므로 옮기지 않음
+        return Files.isRegularFile(path)
+                && !fileName.startsWith(".")
+                && !fileName.startsWith("upload-")
+                && !ImageUtil.isDefaultImageName(fileName);
+    }
+}
@@ -0,0 +1,177 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import site.devtown.spadeworker.domain.file.cache.ImageFileCache;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 원본 이미지로부터 너비별 리사이즈 이미지 생성
+ * JDK ImageIO 가 기본 제공하는 압축 포맷 중 가장 작은 progressive JPEG 로 저장한다.
+ */
+@Slf4j
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@RequiredArgsConstructor
+@Component
+public class ImageVariantGenerator {
+
+    private static final String VARIANT_FORMAT = "jpg";
+    private static final String TEMP_FILE_PREFIX = "upload-";
+
+    private final ImageFileCache imageFileCache;
+
+    @Value("${image.variant.widths}")
+    private List<Integer> variantWidths;
+    @Value("${image.variant.quality}")
+    private float variantQuality;
+
+    /**
+     * 원본 이미지의 리사이즈 이미지를 생성 후 너비별 저장 경로 반환
+     * 원본보다 크거나 같은 너비의 이미지는 생성하지 않는다.
+     */
+    public Map<Integer, String> generate(String originalFullPath) throws IOException {
+        BufferedImage original = ImageIO.read(new File(originalFullPath));
+        if (original == null) {
+            throw new IOException("리사이즈할 수 없는 이미지 형식입니다. : " + originalFullPath);
+        }
+
+        Map<Integer, String> variantUris = new TreeMap<>();
+        for (int width : variantWidths) {
+            if (width >= original.getWidth()) {
+                continue;
+            }
+
+            String variantFullPath = getVariantFullPath(originalFullPath, width);
+
+            // 내용 주소 기반 저장소에서 같은 원본의 리사이즈 이미지가 이미 있다면 재사용
+            if (Files.exists(Path.of(variantFullPath))) {
+                variantUris.put(width, variantFullPath);
+                continue;
+            }
+
+            writeJpeg(resize(original, width), Path.of(variantFullPath));
+            variantUris.put(width, variantFullPath);
+        }
+
+        return variantUris;
+    }
+
+    /**
+     * 리사이즈 이미지 삭제 후 캐시에서 제거 (이미 없는 파일은 무시)
+     */
+    public void deleteVariants(Collection<String> variantFullPaths) {
+        for (String variantFullPath : variantFullPaths) {
+            Path variantPath = Path.of(variantFullPath);
+            try {
+                Files.deleteIfExists(variantPath);
+                imageFileCache.invalidate(variantPath.getFileName().toString());
+            } catch (IOException e) {
+                log.warn("리사이즈 이미지 삭제 실패 : {}", variantFullPath, e);
+            }
+        }
+    }
+
+    /**
+     * 원본 이미지의 모든 너비별 리사이즈 이미지 삭제
+     */
+    public void deleteVariantsOf(String originalFullPath) {
+        deleteVariants(variantWidths.stream()
+                .map(width -> getVariantFullPath(originalFullPath, width))
+                .toList());
+    }
+
+    // 원본 경로에 너비를 붙인 리사이즈 이미지 경로
+    private String getVariantFullPath(
+            String originalFullPath,
+            int width
+    ) {
+        return originalFullPath.substring(0, originalFullPath.lastIndexOf(".")) + "_w" + width + "." + VARIANT_FORMAT;
+    }
+
+    // 절반씩 단계적으로 줄여 bilinear 보간의 계단 현상을 줄임
+    private BufferedImage resize(
+            BufferedImage source,
+            int targetWidth
+    ) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                // 투명 배경 (png) 은 흰색으로 채움
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    // 같은 디렉토리의 임시 파일에 기록한 후 rename 하여, 기록 중인 파일이 응답되거나 재사용되지 않도록 함
+    // (중단되어 남은 임시 파일은 ImageOrphanCollector 가 정리)
+    private void writeJpeg(
+            BufferedImage image,
+            Path target
+    ) throws IOException {
+        Path tempFile = Files.createTempFile(target.getParent(), TEMP_FILE_PREFIX, ".tmp");
+        try {
+            writeJpeg(image, tempFile.toFile());
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void writeJpeg(
+            BufferedImage image,
+            File target
+    ) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(variantQuality);
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
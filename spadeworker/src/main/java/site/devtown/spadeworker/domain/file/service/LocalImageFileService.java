@@ -1,17 +1,41 @@
 package site.devtown.spadeworker.domain.file.service;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import site.devtown.spadeworker.domain.file.cache.ImageFileCache;
 import site.devtown.spadeworker.domain.file.constant.ImageFileType;
 import site.devtown.spadeworker.domain.file.exception.ImageFileNotFoundException;
+import site.devtown.spadeworker.domain.file.repository.ImageBlobRepository;
+import site.devtown.spadeworker.global.config.multipart.StagedMultipartFile;
 import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+import site.devtown.spadeworker.global.util.ImageUtil;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
+@ConditionalOnProperty(prefix = "image.storage", name = "backend", havingValue = "local", matchIfMissing = true)
 @PropertySource(
         value = "classpath:/upload-resource-rule.yml",
         factory = YamlPropertySourceFactory.class
@@ -20,14 +44,49 @@ import java.util.UUID;
 public class LocalImageFileService
         implements ImageFileService {
 
+    private static final int LOCK_STRIPES = 64;
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageStorageLayout imageStorageLayout;
+    private final ImageFileCache imageFileCache;
+    private final TransactionTemplate blobTransactionTemplate;
+    // 같은 파일의 참조 수 갱신과 파일 생성/삭제가 엇갈리지 않도록 저장 이름별 lock
+    private final ReentrantLock[] blobLocks = new ReentrantLock[LOCK_STRIPES];
+
     @Value("${image.local-image-storage-location}")
     private String localFileStorageLocation;
+    @Value("${image.storage.content-addressed}")
+    private boolean contentAddressedStorage;
+
+    public LocalImageFileService(
+            ImageBlobRepository imageBlobRepository,
+            ImageVariantGenerator imageVariantGenerator,
+            ImageStorageLayout imageStorageLayout,
+            ImageFileCache imageFileCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.imageStorageLayout = imageStorageLayout;
+        this.imageFileCache = imageFileCache;
+        // 참조 해제는 요청 트랜잭션이 커밋된 후 실행되므로 별도 트랜잭션으로 커밋
+        this.blobTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.blobTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            blobLocks[i] = new ReentrantLock();
+        }
+    }
 
     @Override
     public String uploadFile(
             ImageFileType imageFileType,
             MultipartFile fileData
     ) throws Exception {
+        if (contentAddressedStorage) {
+            return uploadContentAddressedFile(imageFileType, fileData);
+        }
+
         String storedFileName = getStoredFileName(
                 imageFileType,
                 Objects.requireNonNull(fileData.getOriginalFilename())
@@ -37,7 +96,8 @@ public class LocalImageFileService
                 storedFileName
         );
 
-        // 파일 업로드
+        // 파일 업로드 (스트리밍 업로드로 이미 기록된 파일은 rename 만 수행)
+        Files.createDirectories(Path.of(fileStoredFullPath).getParent());
         fileData.transferTo(new File(fileStoredFullPath));
 
         return fileStoredFullPath;
@@ -60,20 +120,172 @@ public class LocalImageFileService
             ImageFileType imageFileType,
             String storedFileName
     ) {
-        return localFileStorageLocation + "/" + imageFileType.getImageType() + "/" + storedFileName;
+        return imageStorageLayout.pathOf(imageFileType, storedFileName).toString();
+    }
+
+    @Override
+    public String resolveFileStoredFullPath(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        return imageStorageLayout.resolve(imageFileType, storedFileName).toString();
+    }
+
+    @Override
+    public Optional<String> getDirectReadUrl(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        // 로컬 저장소는 애플리케이션이 직접 응답
+        return Optional.empty();
     }
 
     @Override
     public void deleteFile(String fileStoredFullPath) {
-        File deleteFile = new File(fileStoredFullPath);
+        // 디폴트 이미지는 공유되므로 삭제 대상이 아님
+        if (ImageUtil.isDefaultImageName(ImageUtil.getLocalStorageImageName(fileStoredFullPath))) {
+            throw new ImageFileNotFoundException();
+        }
+
+        // 내용 주소 기반 파일은 요청 트랜잭션이 커밋된 후 참조 수를 줄이고, 참조가 없을 때만 삭제
+        if (isContentAddressed(fileStoredFullPath)) {
+            runAfterCommit(() -> releaseContentAddressedFile(fileStoredFullPath));
+            return;
+        }
 
-        System.out.println(fileStoredFullPath);
+        // 저장 당시와 현재의 디렉토리 구조가 다를 수 있으므로 실제 위치를 다시 조회
+        Path resolvedPath = imageStorageLayout.resolve(fileStoredFullPath);
 
-        // 삭제할 파일이 존재하는지 검증
-        if (!deleteFile.exists()) {
+        // 삭제할 파일이 없다면 예외 발생 (그 외의 삭제 실패는 재시도되도록 그대로 전달)
+        try {
+            Files.delete(resolvedPath);
+        } catch (NoSuchFileException e) {
             throw new ImageFileNotFoundException();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        imageFileCache.invalidate(resolvedPath.getFileName().toString());
+        imageVariantGenerator.deleteVariantsOf(resolvedPath.toString());
+    }
+
+    // 업로드 스트림을 임시 파일로 쓰면서 SHA-256 을 계산하고, 같은 내용의 파일이 있다면 재사용
+    // (스트리밍 업로드로 이미 기록된 파일은 기록 중 계산한 SHA-256 과 staging 파일을 그대로 사용)
+    private String uploadContentAddressedFile(
+            ImageFileType imageFileType,
+            MultipartFile fileData
+    ) throws IOException {
+        StagedMultipartFile stagedFile = (fileData instanceof StagedMultipartFile staged) ? staged : null;
+        Path tempFile = null;
+        if (stagedFile == null) {
+            // 첫 업로드라면 타입별 디렉토리가 아직 없으므로 임시 파일을 만들기 전에 생성
+            Path typeDirectory = Files.createDirectories(imageStorageLayout.directoryOf(imageFileType));
+            tempFile = Files.createTempFile(typeDirectory, "upload-", ".tmp");
+        }
+
+        try {
+            String sha256;
+            if (stagedFile != null) {
+                sha256 = stagedFile.getSha256();
+            } else {
+                MessageDigest digest = newSha256Digest();
+                try (InputStream input = new DigestInputStream(fileData.getInputStream(), digest)) {
+                    Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                sha256 = HexFormat.of().formatHex(digest.digest());
+            }
+
+            String storedFileName = imageFileType.getImageType() + "_" + sha256 + "."
+                    + ImageUtil.getImageExtension(Objects.requireNonNull(fileData.getOriginalFilename())).toLowerCase();
+            String fileStoredFullPath = getFileStoredFullPath(imageFileType, storedFileName);
+            Files.createDirectories(Path.of(fileStoredFullPath).getParent());
+
+            ReentrantLock lock = lockFor(storedFileName);
+            lock.lock();
+            try {
+                // 참조 수는 요청 트랜잭션 안에서 증가 (롤백되면 새로 옮긴 파일은 참조 정보가 없으므로 ImageOrphanCollector 가 정리)
+                boolean created = imageBlobRepository.increment(storedFileName);
+
+                // 새로 등록되었거나 파일이 유실된 경우에만 임시 파일을 옮기고, 그 외에는 기존 파일 재사용
+                if (created || Files.notExists(Path.of(fileStoredFullPath))) {
+                    if (stagedFile != null) {
+                        stagedFile.moveTo(Path.of(fileStoredFullPath));
+                    } else {
+                        Files.move(tempFile, Path.of(fileStoredFullPath), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            return fileStoredFullPath;
+        } finally {
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    // 참조 수를 줄이고 더 이상 참조되지 않는다면 파일과 리사이즈 이미지 삭제
+    private void releaseContentAddressedFile(String fileStoredFullPath) {
+        String storedFileName = ImageUtil.getLocalStorageImageName(fileStoredFullPath);
+        ReentrantLock lock = lockFor(storedFileName);
+        lock.lock();
+        try {
+            Path resolvedPath = imageStorageLayout.resolve(fileStoredFullPath);
+
+            // 파일 삭제에 실패하면 참조 수 갱신도 롤백하고 예외를 전달하여, 재시도 시 같은 참조를 다시 해제하도록 함
+            Boolean deleted = blobTransactionTemplate.execute(status -> {
+                if (imageBlobRepository.decrement(storedFileName) == 0
+                        || !imageBlobRepository.deleteIfUnreferenced(storedFileName)) {
+                    return false;
+                }
+
+                try {
+                    Files.deleteIfExists(resolvedPath);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            });
+
+            if (Boolean.TRUE.equals(deleted)) {
+                imageFileCache.invalidate(resolvedPath.getFileName().toString());
+                imageVariantGenerator.deleteVariantsOf(resolvedPath.toString());
+            }
+        } finally {
+            lock.unlock();
         }
+    }
 
-        deleteFile.delete();
+    private boolean isContentAddressed(String fileStoredFullPath) {
+        return ImageUtil.isContentAddressedImageName(ImageUtil.getLocalStorageImageName(fileStoredFullPath));
+    }
+
+    // 트랜잭션 안이라면 커밋 후, 아니라면 즉시 실행
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private ReentrantLock lockFor(String storedFileName) {
+        return blobLocks[Math.floorMod(storedFileName.hashCode(), LOCK_STRIPES)];
+    }
+
+    private MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
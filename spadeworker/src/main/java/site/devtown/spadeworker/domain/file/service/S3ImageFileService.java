@@ -0,0 +1,354 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import site.devtown.spadeworker.domain.file.constant.ImageFileType;
+import site.devtown.spadeworker.domain.file.exception.ImageFileNotFoundException;
+import site.devtown.spadeworker.domain.file.repository.ImageBlobRepository;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+import site.devtown.spadeworker.global.util.ImageUtil;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * S3 호환 오브젝트 스토리지 이미지 저장소
+ * 저장 경로는 s3://{bucket}/{imageType}/{storedFileName} 형식이며, 조회는 pre-signed URL 로 스토리지에서 직접 내려받는다.
+ * 디폴트 이미지는 버킷에 올리지 않으므로 로컬 저장소에서 응답한다.
+ * multipart-threshold 미만의 파일은 한 번의 PutObject 로 스트리밍 업로드하고, 이상의 파일은 part 단위로 나누어 병렬 업로드한다.
+ * 메모리에 올라가는 part 는 업로드당 upload-concurrency 개, 애플리케이션 전체 max-buffered-parts 개로 제한한다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "image.storage", name = "backend", havingValue = "s3")
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Service
+public class S3ImageFileService
+        implements ImageFileService {
+
+    private static final String URI_SCHEME = "s3://";
+    // S3 multipart upload 의 최소 part 크기 (마지막 part 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final ImageStorageLayout imageStorageLayout;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ExecutorService partUploadExecutor;
+    // 모든 업로드가 함께 사용하는 part 버퍼 한도 (part-size x max-buffered-parts bytes)
+    private final Semaphore partBufferPermits;
+
+    @Value("${image.s3.bucket}")
+    private String bucket;
+    @Value("${image.s3.presigned-url-expiry-seconds}")
+    private long presignedUrlExpirySeconds;
+    @Value("${image.s3.multipart-threshold}")
+    private long multipartThreshold;
+    @Value("${image.s3.part-size}")
+    private int partSize;
+    @Value("${image.s3.upload-concurrency}")
+    private int uploadConcurrency;
+
+    public S3ImageFileService(
+            S3Client s3Client,
+            S3Presigner s3Presigner,
+            ImageStorageLayout imageStorageLayout,
+            ImageVariantGenerator imageVariantGenerator,
+            ImageBlobRepository imageBlobRepository,
+            @Value("${image.s3.part-upload-threads}") int partUploadThreads,
+            @Value("${image.s3.max-buffered-parts}") int maxBufferedParts
+    ) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.imageStorageLayout = imageStorageLayout;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.imageBlobRepository = imageBlobRepository;
+        this.partUploadExecutor = Executors.newFixedThreadPool(
+                partUploadThreads,
+                new CustomizableThreadFactory("s3-part-upload-")
+        );
+        this.partBufferPermits = new Semaphore(maxBufferedParts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partUploadExecutor.shutdown();
+    }
+
+    @Override
+    public String uploadFile(
+            ImageFileType imageFileType,
+            MultipartFile fileData
+    ) throws Exception {
+        String storedFileName = getStoredFileName(
+                imageFileType,
+                Objects.requireNonNull(fileData.getOriginalFilename())
+        );
+        String key = keyOf(imageFileType, storedFileName);
+
+        if (fileData.getSize() >= multipartThreshold) {
+            uploadMultipart(key, fileData);
+        } else {
+            try (InputStream input = fileData.getInputStream()) {
+                s3Client.putObject(
+                        PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .contentType(fileData.getContentType())
+                                .contentLength(fileData.getSize())
+                                .build(),
+                        RequestBody.fromInputStream(input, fileData.getSize())
+                );
+            }
+        }
+
+        return getFileStoredFullPath(imageFileType, storedFileName);
+    }
+
+    @Override
+    public String getStoredFileName(
+            ImageFileType imageFileType,
+            String originalFileName
+    ) {
+        String uuid = UUID.randomUUID().toString();
+        String extension = originalFileName
+                .substring(originalFileName.lastIndexOf(".") + 1);
+
+        return imageFileType.getImageType() + "_" + uuid + "." + extension;
+    }
+
+    @Override
+    public String getFileStoredFullPath(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        return URI_SCHEME + bucket + "/" + keyOf(imageFileType, storedFileName);
+    }
+
+    @Override
+    public String resolveFileStoredFullPath(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        // 디폴트 이미지는 로컬 저장소에 있음
+        if (ImageUtil.isDefaultImageName(storedFileName)) {
+            return imageStorageLayout.resolve(imageFileType, storedFileName).toString();
+        }
+
+        return getFileStoredFullPath(imageFileType, storedFileName);
+    }
+
+    @Override
+    public Optional<String> getDirectReadUrl(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        // 디폴트 이미지는 버킷에 없으므로 애플리케이션이 직접 응답
+        if (ImageUtil.isDefaultImageName(storedFileName)) {
+            return Optional.empty();
+        }
+
+        String key = keyOf(imageFileType, storedFileName);
+
+        return Optional.of(s3Presigner.presignGetObject(request -> request
+                        .signatureDuration(Duration.ofSeconds(presignedUrlExpirySeconds))
+                        .getObjectRequest(get -> get.bucket(bucket).key(key)))
+                .url()
+                .toString());
+    }
+
+    @Override
+    public void deleteFile(String fileStoredFullPath) {
+        String bucketPrefix = URI_SCHEME + bucket + "/";
+
+        // 저장소 전환 전에 로컬에 저장된 파일
+        if (!fileStoredFullPath.startsWith(URI_SCHEME)) {
+            deleteLocalFile(fileStoredFullPath);
+            return;
+        }
+
+        // 이 버킷에 저장된 파일이 아니라면 삭제 대상이 아님
+        if (!fileStoredFullPath.startsWith(bucketPrefix)) {
+            throw new ImageFileNotFoundException();
+        }
+
+        s3Client.deleteObject(request -> request
+                .bucket(bucket)
+                .key(fileStoredFullPath.substring(bucketPrefix.length())));
+    }
+
+    // 로컬 파일과 리사이즈 이미지 삭제 (디폴트 이미지와 아직 참조되는 내용 주소 기반 파일은 유지)
+    private void deleteLocalFile(String fileStoredFullPath) {
+        String storedFileName = ImageUtil.getLocalStorageImageName(fileStoredFullPath);
+
+        if (ImageUtil.isDefaultImageName(storedFileName)) {
+            throw new ImageFileNotFoundException();
+        }
+
+        if (ImageUtil.isContentAddressedImageName(storedFileName)
+                && (imageBlobRepository.decrement(storedFileName) == 0
+                || !imageBlobRepository.deleteIfUnreferenced(storedFileName))) {
+            return;
+        }
+
+        Path resolvedPath = imageStorageLayout.resolve(fileStoredFullPath);
+        try {
+            if (!Files.deleteIfExists(resolvedPath)) {
+                throw new ImageFileNotFoundException();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        imageVariantGenerator.deleteVariantsOf(resolvedPath.toString());
+    }
+
+    // part 를 읽는 대로 병렬 업로드 (part 버퍼는 업로드당 upload-concurrency 개, 전체 max-buffered-parts 개까지만 보유)
+    private void uploadMultipart(
+            String key,
+            MultipartFile fileData
+    ) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(request -> request
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(fileData.getContentType()))
+                .uploadId();
+
+        Semaphore inFlightParts = new Semaphore(uploadConcurrency);
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+        try (InputStream input = fileData.getInputStream()) {
+            int partNumber = 1;
+            while (true) {
+                // 버퍼를 읽기 전에 한도를 먼저 확보
+                inFlightParts.acquire();
+                try {
+                    partBufferPermits.acquire();
+                } catch (InterruptedException e) {
+                    inFlightParts.release();
+                    throw e;
+                }
+
+                byte[] part;
+                try {
+                    part = input.readNBytes(Math.max(partSize, MIN_PART_SIZE));
+                } catch (IOException | RuntimeException e) {
+                    releasePartBuffer(inFlightParts);
+                    throw e;
+                }
+                if (part.length == 0) {
+                    releasePartBuffer(inFlightParts);
+                    break;
+                }
+
+                int currentPartNumber = partNumber++;
+                parts.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(key, uploadId, currentPartNumber, part), partUploadExecutor)
+                        .whenComplete((completedPart, e) -> releasePartBuffer(inFlightParts)));
+            }
+
+            List<CompletedPart> completedParts = parts.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+
+            s3Client.completeMultipartUpload(request -> request
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortMultipart(key, uploadId, parts);
+            throw new IOException("이미지 업로드가 중단되었습니다. : " + key, e);
+        } catch (CompletionException e) {
+            abortMultipart(key, uploadId, parts);
+            throw new IOException("이미지 part 업로드에 실패했습니다. : " + key, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abortMultipart(key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(
+            String key,
+            String uploadId,
+            int partNumber,
+            byte[] part
+    ) {
+        String eTag = s3Client.uploadPart(
+                UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) part.length)
+                        .build(),
+                RequestBody.fromBytes(part)
+        ).eTag();
+
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(eTag)
+                .build();
+    }
+
+    private void releasePartBuffer(Semaphore inFlightParts) {
+        partBufferPermits.release();
+        inFlightParts.release();
+    }
+
+    // 진행 중인 part 업로드가 끝난 뒤 업로드를 중단해 part 가 스토리지에 남지 않도록 함
+    private void abortMultipart(
+            String key,
+            String uploadId,
+            List<CompletableFuture<CompletedPart>> parts
+    ) {
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+
+        try {
+            s3Client.abortMultipartUpload(request -> request
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId));
+        } catch (RuntimeException e) {
+            log.warn("multipart upload 중단 실패 : {} ({})", key, uploadId, e);
+        }
+    }
+
+    private String keyOf(
+            ImageFileType imageFileType,
+            String storedFileName
+    ) {
+        return imageFileType.getImageType() + "/" + storedFileName;
+    }
+}
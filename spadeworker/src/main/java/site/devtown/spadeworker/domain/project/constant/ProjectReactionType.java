@@ -0,0 +1,14 @@
+package site.devtown.spadeworker.domain.project.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProjectReactionType {
+
+    LIKE("프로젝트 좋아요"),
+    SUBSCRIBE("프로젝트 구독");
+
+    private final String description;
+}
@@ -0,0 +1,15 @@
+package site.devtown.spadeworker.domain.project.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProjectReactionWriteResult {
+
+    APPLIED("반영됨"),
+    UNCHANGED("이미 등록되었거나 존재하지 않아 변경 없음"),
+    PROJECT_NOT_FOUND("존재하지 않는 프로젝트");
+
+    private final String description;
+}
@@ -2,17 +2,30 @@ package site.devtown.spadeworker.domain.project.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import site.devtown.spadeworker.domain.project.dto.CreateProjectRequest;
+import site.devtown.spadeworker.domain.project.dto.ProjectBatchItem;
+import site.devtown.spadeworker.domain.project.dto.ProjectCursorPage;
 import site.devtown.spadeworker.domain.project.dto.ProjectDto;
+import site.devtown.spadeworker.domain.project.dto.ProjectVersion;
 import site.devtown.spadeworker.domain.project.dto.UpdateProjectRequest;
 import site.devtown.spadeworker.domain.project.service.ProjectService;
 import site.devtown.spadeworker.global.response.CommonResult;
+import site.devtown.spadeworker.global.response.CursorResult;
 import site.devtown.spadeworker.global.response.ListResult;
 import site.devtown.spadeworker.global.response.ResponseService;
 import site.devtown.spadeworker.global.response.SingleResult;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.VARY;
 import static org.springframework.http.HttpStatus.OK;
 
 @RequiredArgsConstructor
@@ -23,11 +36,20 @@ public class ProjectController {
     private final ProjectService projectService;
     private final ResponseService responseService;
 
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     /**
      * 프로젝트 전체 조회 API
      */
     @GetMapping()
-    public ListResult<ProjectDto> getAllProjects() {
+    public ListResult<ProjectDto> getAllProjects(
+            ServletWebRequest webRequest
+    ) {
+        // 클라이언트가 가진 목록이 최신이라면 304 응답
+        if (isNotModified(webRequest, projectService.getProjectsVersion())) {
+            return null;
+        }
+
         return responseService.getListResult(
                 OK.value(),
                 "성공적으로 프로젝트를 조회하였습니다.",
@@ -35,13 +57,101 @@ public class ProjectController {
         );
     }
 
+    /**
+     * 프로젝트 커서 기반 페이지 조회 API
+     * size 파라미터가 있을 경우 커서 기반 페이지 모드로 동작
+     */
+    @GetMapping(params = "size")
+    public CursorResult<ProjectDto> getProjectsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size,
+            ServletWebRequest webRequest
+    ) {
+        // 클라이언트가 가진 목록이 최신이라면 304 응답
+        if (isNotModified(webRequest, projectService.getProjectsVersion())) {
+            return null;
+        }
+
+        ProjectCursorPage page = projectService.getProjectsByCursor(cursor, size);
+
+        return responseService.getCursorResult(
+                OK.value(),
+                "성공적으로 프로젝트를 조회하였습니다.",
+                page.projects(),
+                page.nextCursor()
+        );
+    }
+
+    /**
+     * 프로젝트 검색 API
+     */
+    @GetMapping("/search")
+    public ListResult<ProjectDto> searchProjects(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return responseService.getListResult(
+                OK.value(),
+                "성공적으로 프로젝트를 검색하였습니다.",
+                projectService.searchProjects(query, page, size)
+        );
+    }
+
+    /**
+     * 프로젝트 일괄 조회 API
+     */
+    @GetMapping("/batch")
+    public ListResult<ProjectBatchItem> getProjects(
+            @RequestParam List<Long> ids
+    ) {
+        return responseService.getListResult(
+                OK.value(),
+                "성공적으로 프로젝트를 조회하였습니다.",
+                projectService.getProjects(ids)
+        );
+    }
+
+    /**
+     * 트렌딩 프로젝트 조회 API
+     */
+    @GetMapping("/trending")
+    public ListResult<ProjectDto> getTrendingProjects(
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return responseService.getListResult(
+                OK.value(),
+                "성공적으로 트렌딩 프로젝트를 조회하였습니다.",
+                projectService.getTrendingProjects(size)
+        );
+    }
+
+    /**
+     * 전체 프로젝트 NDJSON 스트리밍 export API
+     */
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    public void exportProjects(
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        projectService.exportProjects(response.getOutputStream());
+    }
+
     /**
      * 특정 프로젝트 단건 조회 API
      */
     @GetMapping("/{projectId}")
     public SingleResult<ProjectDto> getProject(
-            @PathVariable Long projectId
+            @PathVariable Long projectId,
+            ServletWebRequest webRequest
     ) {
+        // 클라이언트가 가진 프로젝트가 최신이라면 304 응답
+        if (isNotModified(webRequest, projectService.getProjectVersion(projectId))) {
+            return null;
+        }
+
         return responseService.getSingleResult(
                 OK.value(),
                 "성공적으로 프로젝트를 조회하였습니다.",
@@ -88,63 +198,73 @@ public class ProjectController {
      * 프로젝트 좋아요 등록 API
      */
     @PostMapping("/{projectId}/like")
-    public CommonResult registerProjectLike(
+    public CompletableFuture<CommonResult> registerProjectLike(
             @PathVariable Long projectId
     ) {
         // 프로젝트에 좋아요 등록
-        projectService.registerProjectLike(projectId);
-
-        return responseService.getSuccessResult(
-                OK.value(),
-                "성공적으로 프로젝트에 좋아요가 등록되었습니다."
-        );
+        return projectService.registerProjectLike(projectId)
+                .thenApply(ignored -> responseService.getSuccessResult(
+                        OK.value(),
+                        "성공적으로 프로젝트에 좋아요가 등록되었습니다."
+                ));
     }
 
     /**
      * 프로젝트 좋아요 취소 API
      */
     @DeleteMapping("/{projectId}/like")
-    public CommonResult cancelProjectLike(
+    public CompletableFuture<CommonResult> cancelProjectLike(
             @PathVariable Long projectId
     ) {
         // 프로젝트의 좋아요 취소
-        projectService.cancelProjectLike(projectId);
-
-        return responseService.getSuccessResult(
-                OK.value(),
-                "성공적으로 프로젝트의 좋아요가 취소되었습니다."
-        );
+        return projectService.cancelProjectLike(projectId)
+                .thenApply(ignored -> responseService.getSuccessResult(
+                        OK.value(),
+                        "성공적으로 프로젝트의 좋아요가 취소되었습니다."
+                ));
     }
 
     /**
      * 프로젝트 구독 API
      */
     @PostMapping("/{projectId}/subscribe")
-    public CommonResult registerProjectSubscribe(
+    public CompletableFuture<CommonResult> registerProjectSubscribe(
             @PathVariable Long projectId
     ) {
         // 프로젝트 구독
-        projectService.registerProjectSubscribe(projectId);
-
-        return responseService.getSuccessResult(
-                OK.value(),
-                "성공적으로 프로젝트에 구독되었습니다."
-        );
+        return projectService.registerProjectSubscribe(projectId)
+                .thenApply(ignored -> responseService.getSuccessResult(
+                        OK.value(),
+                        "성공적으로 프로젝트에 구독되었습니다."
+                ));
     }
 
     /**
      * 프로젝트 구독 취소 API
      */
     @DeleteMapping("/{projectId}/subscribe")
-    public CommonResult cancelProjectSubscribe(
+    public CompletableFuture<CommonResult> cancelProjectSubscribe(
             @PathVariable Long projectId
     ) {
         // 프로젝트 구독 취소
-        projectService.cancelProjectSubscribe(projectId);
+        return projectService.cancelProjectSubscribe(projectId)
+                .thenApply(ignored -> responseService.getSuccessResult(
+                        OK.value(),
+                        "성공적으로 프로젝트의 구독이 취소되었습니다."
+                ));
+    }
 
-        return responseService.getSuccessResult(
-                OK.value(),
-                "성공적으로 프로젝트의 구독이 취소되었습니다."
+    // If-None-Match / If-Modified-Since 를 검증하고 ETag, Last-Modified 헤더 설정
+    private boolean isNotModified(
+            ServletWebRequest webRequest,
+            ProjectVersion projectVersion
+    ) {
+        // 인증 여부에 따라 좋아요/구독 여부가 달라지므로 공유 캐시가 응답을 구분하도록 설정
+        Objects.requireNonNull(webRequest.getResponse()).addHeader(VARY, AUTHORIZATION);
+
+        return webRequest.checkNotModified(
+                projectVersion.eTag(),
+                projectVersion.lastModifiedMillis()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package site.devtown.spadeworker.domain.project.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import site.devtown.spadeworker.global.exception.ExceptionCode;
+
+/**
+ * 프로젝트 일괄 조회의 개별 결과
+ * 조회에 실패한 항목은 project 가 null 이고 실패 사유(code, message)를 담는다.
+ */
+public record ProjectBatchItem(
+        // TSID 는 2^53 을 넘으므로 JavaScript 에서 정밀도를 잃지 않도록 문자열로 직렬화
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long projectId,
+        ProjectDto project,
+        String errorCode,
+        String errorMessage
+) {
+    public static ProjectBatchItem found(ProjectDto project) {
+        return new ProjectBatchItem(project.projectId(), project, null, null);
+    }
+
+    public static ProjectBatchItem failed(
+            Long projectId,
+            ExceptionCode exceptionCode
+    ) {
+        return new ProjectBatchItem(
+                projectId,
+                null,
+                exceptionCode.getCode(),
+                exceptionCode.getMessage()
+        );
+    }
+}
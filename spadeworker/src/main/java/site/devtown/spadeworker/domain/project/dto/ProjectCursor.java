@@ -0,0 +1,55 @@
+package site.devtown.spadeworker.domain.project.dto;
+
+import site.devtown.spadeworker.domain.project.exception.InvalidProjectCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 프로젝트 목록의 keyset 페이지 위치 (createdAt, id)
+ * 클라이언트에게는 Base64 로 인코딩된 불투명한 문자열로 전달
+ */
+public record ProjectCursor(
+        LocalDateTime createdAt,
+        Long projectId
+) {
+    private static final String DELIMITER = "_";
+
+    public static ProjectCursor of(
+            LocalDateTime createdAt,
+            Long projectId
+    ) {
+        return new ProjectCursor(createdAt, projectId);
+    }
+
+    /**
+     * 커서 문자열을 ProjectCursor 로 변환
+     */
+    public static ProjectCursor decode(String cursor) {
+        try {
+            String decoded = new String(
+                    Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8
+            );
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+
+            return new ProjectCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidProjectCursorException();
+        }
+    }
+
+    /**
+     * ProjectCursor 를 커서 문자열로 변환
+     */
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((createdAt + DELIMITER + projectId).getBytes(StandardCharsets.UTF_8));
+    }
+}
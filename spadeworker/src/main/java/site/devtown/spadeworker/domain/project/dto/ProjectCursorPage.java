@@ -0,0 +1,19 @@
+package site.devtown.spadeworker.domain.project.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 프로젝트 페이지 조회 결과
+ * 다음 페이지가 없다면 nextCursor 는 null
+ */
+public record ProjectCursorPage(
+        List<ProjectDto> projects,
+        String nextCursor
+) {
+    public static ProjectCursorPage of(
+            List<ProjectDto> projects,
+            String nextCursor
+    ) {
+        return new ProjectCursorPage(projects, nextCursor);
+    }
+}
@@ -1,49 +1,113 @@
 package site.devtown.spadeworker.domain.project.dto;
 
-import site.devtown.spadeworker.domain.project.entity.Project;
-import site.devtown.spadeworker.domain.user.model.entity.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import site.devtown.spadeworker.domain.project.constant.ProjectReactionType;
+import site.devtown.spadeworker.global.util.ImageUtil;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+
+import static site.devtown.spadeworker.domain.file.constant.ImageFileType.PROJECT_THUMBNAIL_IMAGE;
 
 public record ProjectDto(
+        // TSID 는 2^53 을 넘으므로 JavaScript 에서 정밀도를 잃지 않도록 문자열로 직렬화
+        @JsonSerialize(using = ToStringSerializer.class)
         Long projectId,
         String title,
         String description,
+        // 저장 경로가 아닌 이미지 조회 API 경로
         String thumbnailImageUri,
+        // 너비별 썸네일 리사이즈 이미지 조회 API 경로 (생성 전이라면 비어 있음)
+        Map<Integer, String> thumbnailVariantUris,
         int likeCount,
         int subscriberCount,
         UserInfo user,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        // 인증된 사용자의 좋아요/구독 여부 (비로그인 요청에는 포함되지 않음)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Boolean likedByMe,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Boolean subscribedByMe
 ) {
-    public static ProjectDto from(
-            Project project,
-            int likeCount,
-            int subscriberCount
+    public static ProjectDto from(ProjectSummary summary) {
+        return new ProjectDto(
+                summary.getProjectId(),
+                summary.getTitle(),
+                summary.getDescription(),
+                ImageUtil.getImageServingUri(PROJECT_THUMBNAIL_IMAGE.getImageType(), summary.getThumbnailImageUri()),
+                toServingUris(ImageUtil.decodeVariantUris(summary.getThumbnailVariantUris())),
+                summary.getLikeCount(),
+                summary.getSubscriberCount(),
+                new UserInfo(
+                        summary.getUserId(),
+                        summary.getNickname(),
+                        summary.getProfileImageUri()
+                ),
+                summary.getCreatedAt(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * 좋아요/구독 변화량이 반영된 ProjectDto 반환
+     */
+    public ProjectDto withReactionDelta(
+            ProjectReactionType reactionType,
+            int delta
+    ) {
+        return new ProjectDto(
+                projectId,
+                title,
+                description,
+                thumbnailImageUri,
+                thumbnailVariantUris,
+                (reactionType == ProjectReactionType.LIKE) ? likeCount + delta : likeCount,
+                (reactionType == ProjectReactionType.SUBSCRIBE) ? subscriberCount + delta : subscriberCount,
+                user,
+                createdAt,
+                likedByMe,
+                subscribedByMe
+        );
+    }
+
+    /**
+     * 조회한 사용자의 좋아요/구독 여부가 반영된 ProjectDto 반환
+     */
+    public ProjectDto withViewerReactions(
+            boolean likedByMe,
+            boolean subscribedByMe
     ) {
         return new ProjectDto(
-                project.getId(),
-                project.getTitle(),
-                project.getDescription(),
-                project.getThumbnailImageUri(),
+                projectId,
+                title,
+                description,
+                thumbnailImageUri,
+                thumbnailVariantUris,
                 likeCount,
                 subscriberCount,
-                UserInfo.from(project.getUser()),
-                project.getCreatedAt()
+                user,
+                createdAt,
+                likedByMe,
+                subscribedByMe
         );
     }
 
+    // 너비별 리사이즈 이미지 저장 경로를 조회 API 경로로 변환
+    private static Map<Integer, String> toServingUris(Map<Integer, String> variantUris) {
+        variantUris.replaceAll((width, variantUri) ->
+                ImageUtil.getImageServingUri(PROJECT_THUMBNAIL_IMAGE.getImageType(), variantUri));
+        return variantUris;
+    }
+
     // ProjectDto 내부에서만 사용하는 UserDto
     private record UserInfo(
+            @JsonSerialize(using = ToStringSerializer.class)
             Long userId,
             String nickname,
             String profileImageUri
     ) {
-        private static UserInfo from(User user) {
-            return new UserInfo(
-                    user.getId(),
-                    user.getNickname(),
-                    user.getProfileImageUri()
-            );
-        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package site.devtown.spadeworker.domain.project.dto;
+
+import site.devtown.spadeworker.domain.project.constant.ProjectReactionType;
+import site.devtown.spadeworker.domain.project.event.ProjectReactionEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 좋아요/구독 등록 또는 취소 요청
+ */
+public record ProjectReactionMutation(
+        ProjectReactionType reactionType,
+        Long projectId,
+        Long userId,
+        boolean register
+) {
+    public static ProjectReactionMutation register(
+            ProjectReactionType reactionType,
+            Long projectId,
+            Long userId
+    ) {
+        return new ProjectReactionMutation(reactionType, projectId, userId, true);
+    }
+
+    public static ProjectReactionMutation cancel(
+            ProjectReactionType reactionType,
+            Long projectId,
+            Long userId
+    ) {
+        return new ProjectReactionMutation(reactionType, projectId, userId, false);
+    }
+
+    /**
+     * 같은 SQL 로 batch 처리할 수 있는 요청인지 여부
+     */
+    public boolean isSameOperation(ProjectReactionMutation other) {
+        return reactionType == other.reactionType && register == other.register;
+    }
+
+    /**
+     * 반영된 요청의 이벤트 생성 (canceledReactedAt 은 취소된 반응의 등록 시각)
+     */
+    public ProjectReactionEvent toEvent(LocalDateTime canceledReactedAt) {
+        return register ?
+                ProjectReactionEvent.registered(reactionType, projectId, userId) :
+                ProjectReactionEvent.canceled(reactionType, projectId, userId, canceledReactedAt);
+    }
+}
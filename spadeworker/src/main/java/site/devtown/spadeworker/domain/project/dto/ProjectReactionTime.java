@@ -0,0 +1,13 @@
+package site.devtown.spadeworker.domain.project.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요/구독이 등록된 프로젝트와 시각 Projection
+ */
+public interface ProjectReactionTime {
+
+    Long getProjectId();
+
+    LocalDateTime getCreatedAt();
+}
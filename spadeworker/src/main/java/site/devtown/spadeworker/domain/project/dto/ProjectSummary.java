@@ -0,0 +1,32 @@
+package site.devtown.spadeworker.domain.project.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 목록/단건 조회용 Projection
+ * 프로젝트 컬럼과 소유자 정보를 하나의 SQL 로 조회
+ */
+public interface ProjectSummary {
+
+    Long getProjectId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getThumbnailImageUri();
+
+    String getThumbnailVariantUris();
+
+    int getLikeCount();
+
+    int getSubscriberCount();
+
+    Long getUserId();
+
+    String getNickname();
+
+    String getProfileImageUri();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,61 @@
+package site.devtown.spadeworker.domain.project.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 프로젝트 조회 결과의 버전 정보
+ * 조건부 GET (ETag / Last-Modified) 판별에 사용하며, DTO 를 만들지 않고 집계 쿼리만으로 조회
+ * 인증된 사용자의 조회 결과에는 좋아요/구독 여부가 포함되므로 사용자별 버전(viewerTag)을 함께 담는다.
+ */
+public record ProjectVersion(
+        long projectCount,
+        LocalDateTime lastModifiedAt,
+        String viewerTag
+) {
+    public ProjectVersion(
+            long projectCount,
+            LocalDateTime lastModifiedAt
+    ) {
+        this(projectCount, lastModifiedAt, null);
+    }
+
+    /**
+     * 조회한 사용자의 좋아요/구독 목록 버전이 반영된 ProjectVersion 반환
+     */
+    public ProjectVersion withViewer(
+            Long viewerId,
+            ProjectVersion likeVersion,
+            ProjectVersion subscribeVersion
+    ) {
+        return new ProjectVersion(
+                projectCount,
+                lastModifiedAt,
+                "u" + viewerId + "-" + likeVersion.versionTag() + "-" + subscribeVersion.versionTag()
+        );
+    }
+
+    /**
+     * 조회 대상 수와 마지막 수정 시각(, 사용자별 버전)으로 만든 strong ETag
+     */
+    public String eTag() {
+        return "\"" + versionTag() + ((viewerTag == null) ? "" : "-" + viewerTag) + "\"";
+    }
+
+    /**
+     * Last-Modified 헤더 값 (epoch millis)
+     * 프로젝트가 없거나, 취소로 인해 시각만으로 변경을 판별할 수 없는 사용자별 결과라면 -1
+     */
+    public long lastModifiedMillis() {
+        return (lastModifiedAt == null || viewerTag != null) ? -1 :
+                lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String versionTag() {
+        long version = (lastModifiedAt == null) ? 0 :
+                lastModifiedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + lastModifiedAt.getNano();
+
+        return projectCount + "-" + Long.toHexString(version);
+    }
+}
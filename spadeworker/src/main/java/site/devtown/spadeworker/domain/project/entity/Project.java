@@ -3,18 +3,24 @@ package site.devtown.spadeworker.domain.project.entity;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import site.devtown.spadeworker.domain.user.model.entity.User;
 import site.devtown.spadeworker.global.config.audit.BaseEntity;
+import site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator;
 
 import javax.persistence.*;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_project_created_at_id", columnList = "createdAt, id")
+})
 @Entity
 public class Project extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TsidIdentifierGenerator.NAME)
+    @GenericGenerator(name = TsidIdentifierGenerator.NAME, strategy = TsidIdentifierGenerator.STRATEGY)
     private Long id;
 
     @Column(length = 100, nullable = false, unique = true)
@@ -26,6 +32,17 @@ public class Project extends BaseEntity {
     @Column(length = 1000, nullable = false)
     private String thumbnailImageUri;
 
+    // 썸네일 리사이즈 이미지 경로 ("너비=경로" 목록) 는 ProjectThumbnailVariantService 가 비동기로 갱신
+    @Column(length = 3000, updatable = false)
+    private String thumbnailVariantUris;
+
+    // 좋아요/구독자 수는 ProjectCounterService 가 write-behind 로 갱신
+    @Column(nullable = false, updatable = false)
+    private int likeCount = 0;
+
+    @Column(nullable = false, updatable = false)
+    private int subscriberCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
@@ -3,18 +3,25 @@ package site.devtown.spadeworker.domain.project.entity;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import site.devtown.spadeworker.domain.user.model.entity.User;
 import site.devtown.spadeworker.global.config.audit.BaseTimeEntity;
+import site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator;
 
 import javax.persistence.*;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_project_like_project_id_user_id",
+        columnNames = {"project_id", "user_id"}
+))
 @Entity
 public class ProjectLike extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TsidIdentifierGenerator.NAME)
+    @GenericGenerator(name = TsidIdentifierGenerator.NAME, strategy = TsidIdentifierGenerator.STRATEGY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -4,18 +4,25 @@ package site.devtown.spadeworker.domain.project.entity;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import site.devtown.spadeworker.domain.user.model.entity.User;
 import site.devtown.spadeworker.global.config.audit.BaseTimeEntity;
+import site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator;
 
 import javax.persistence.*;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_project_subscribe_project_id_subscriber_id",
+        columnNames = {"project_id", "subscriber_id"}
+))
 @Entity
 public class ProjectSubscribe extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TsidIdentifierGenerator.NAME)
+    @GenericGenerator(name = TsidIdentifierGenerator.NAME, strategy = TsidIdentifierGenerator.STRATEGY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,18 @@
+package site.devtown.spadeworker.domain.project.event;
+
+/**
+ * 프로젝트 생성 이벤트
+ */
+public record ProjectCreatedEvent(
+        Long projectId,
+        String title,
+        String description
+) {
+    public static ProjectCreatedEvent of(
+            Long projectId,
+            String title,
+            String description
+    ) {
+        return new ProjectCreatedEvent(projectId, title, description);
+    }
+}
@@ -0,0 +1,35 @@
+package site.devtown.spadeworker.domain.project.event;
+
+import site.devtown.spadeworker.domain.project.constant.ProjectReactionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 좋아요/구독 등록 및 취소 이벤트
+ * delta 는 등록 시 1, 취소 시 -1
+ * reactedAt 은 등록된 (취소 시에는 취소된) 반응의 등록 시각이며, 알 수 없다면 null
+ */
+public record ProjectReactionEvent(
+        ProjectReactionType reactionType,
+        Long projectId,
+        Long userId,
+        int delta,
+        LocalDateTime reactedAt
+) {
+    public static ProjectReactionEvent registered(
+            ProjectReactionType reactionType,
+            Long projectId,
+            Long userId
+    ) {
+        return new ProjectReactionEvent(reactionType, projectId, userId, 1, LocalDateTime.now());
+    }
+
+    public static ProjectReactionEvent canceled(
+            ProjectReactionType reactionType,
+            Long projectId,
+            Long userId,
+            LocalDateTime reactedAt
+    ) {
+        return new ProjectReactionEvent(reactionType, projectId, userId, -1, reactedAt);
+    }
+}
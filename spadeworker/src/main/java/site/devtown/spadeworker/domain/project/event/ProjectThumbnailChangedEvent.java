@@ -0,0 +1,16 @@
+package site.devtown.spadeworker.domain.project.event;
+
+/**
+ * 프로젝트 썸네일 이미지 업로드 이벤트 (디폴트 이미지로 변경된 경우는 제외)
+ */
+public record ProjectThumbnailChangedEvent(
+        Long projectId,
+        String thumbnailImageUri
+) {
+    public static ProjectThumbnailChangedEvent of(
+            Long projectId,
+            String thumbnailImageUri
+    ) {
+        return new ProjectThumbnailChangedEvent(projectId, thumbnailImageUri);
+    }
+}
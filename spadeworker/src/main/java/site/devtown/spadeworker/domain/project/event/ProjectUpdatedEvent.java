@@ -0,0 +1,18 @@
+package site.devtown.spadeworker.domain.project.event;
+
+/**
+ * 프로젝트 정보 수정 이벤트
+ */
+public record ProjectUpdatedEvent(
+        Long projectId,
+        String title,
+        String description
+) {
+    public static ProjectUpdatedEvent of(
+            Long projectId,
+            String title,
+            String description
+    ) {
+        return new ProjectUpdatedEvent(projectId, title, description);
+    }
+}
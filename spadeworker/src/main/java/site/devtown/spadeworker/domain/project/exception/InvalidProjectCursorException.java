@@ -0,0 +1,9 @@
+package site.devtown.spadeworker.domain.project.exception;
+
+import static site.devtown.spadeworker.domain.project.exception.ProjectExceptionCode.*;
+
+public class InvalidProjectCursorException extends RuntimeException {
+    public InvalidProjectCursorException() {
+        super(INVALID_PROJECT_CURSOR.getMessage());
+    }
+}
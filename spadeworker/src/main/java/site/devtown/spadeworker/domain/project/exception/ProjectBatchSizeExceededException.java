@@ -0,0 +1,9 @@
+package site.devtown.spadeworker.domain.project.exception;
+
+import static site.devtown.spadeworker.domain.project.exception.ProjectExceptionCode.*;
+
+public class ProjectBatchSizeExceededException extends RuntimeException {
+    public ProjectBatchSizeExceededException() {
+        super(PROJECT_BATCH_SIZE_EXCEEDED.getMessage());
+    }
+}
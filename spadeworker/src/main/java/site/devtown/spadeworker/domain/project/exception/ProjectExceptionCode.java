@@ -17,7 +17,10 @@ public enum ProjectExceptionCode
     PROJECT_DUPLICATE_LIKE(BAD_REQUEST, "PJ-C-003", "프로젝트에 이미 해당 사용자의 좋아요가 존재합니다."),
     PROJECT_LIKE_NOT_FOUND(NOT_FOUND, "PJ-C-004", "프로젝트에 해당 사용자의 좋아요가 존재하지 않습니다."),
     PROJECT_DUPLICATE_SUBSCRIBE(BAD_REQUEST, "PJ-C-005", "이미 해당 프로젝트에 구독중입니다."),
-    PROJECT_SUBSCRIBE_NOT_FOUND(NOT_FOUND, "PJ-C-006", "해당 프로젝트에 구독중이지 않습니다.");
+    PROJECT_SUBSCRIBE_NOT_FOUND(NOT_FOUND, "PJ-C-006", "해당 프로젝트에 구독중이지 않습니다."),
+    INVALID_PROJECT_CURSOR(BAD_REQUEST, "PJ-C-007", "유효하지 않은 프로젝트 페이지 커서입니다."),
+    PROJECT_BATCH_SIZE_EXCEEDED(BAD_REQUEST, "PJ-C-008", "한 번에 조회할 수 있는 프로젝트 수를 초과하였습니다."),
+    PROJECT_REACTION_QUEUE_FULL(SERVICE_UNAVAILABLE, "PJ-S-001", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String code;
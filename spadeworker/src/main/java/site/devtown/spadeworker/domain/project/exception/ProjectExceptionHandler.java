@@ -69,4 +69,46 @@ public class ProjectExceptionHandler {
                 HttpStatus.valueOf(PROJECT_SUBSCRIBE_NOT_FOUND.getHttpStatus().value())
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * InvalidProjectCursorException 핸들링
+     */
+    @ExceptionHandler(InvalidProjectCursorException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidProjectCursorException(
+            InvalidProjectCursorException e
+    ) {
+        log.error("{}", e.getMessage());
+        return new ResponseEntity<>(
+                ExceptionResponse.of(INVALID_PROJECT_CURSOR, INVALID_PROJECT_CURSOR.getMessage()),
+                HttpStatus.valueOf(INVALID_PROJECT_CURSOR.getHttpStatus().value())
+        );
+    }
+
+    /**
+     * ProjectBatchSizeExceededException 핸들링
+     */
+    @ExceptionHandler(ProjectBatchSizeExceededException.class)
+    public ResponseEntity<ExceptionResponse> handleProjectBatchSizeExceededException(
+            ProjectBatchSizeExceededException e
+    ) {
+        log.error("{}", e.getMessage());
+        return new ResponseEntity<>(
+                ExceptionResponse.of(PROJECT_BATCH_SIZE_EXCEEDED, PROJECT_BATCH_SIZE_EXCEEDED.getMessage()),
+                HttpStatus.valueOf(PROJECT_BATCH_SIZE_EXCEEDED.getHttpStatus().value())
+        );
+    }
+
+    /**
+     * ProjectReactionQueueFullException 핸들링
+     */
+    @ExceptionHandler(ProjectReactionQueueFullException.class)
+    public ResponseEntity<ExceptionResponse> handleProjectReactionQueueFullException(
+            ProjectReactionQueueFullException e
+    ) {
+        log.error("{}", e.getMessage());
+        return new ResponseEntity<>(
+                ExceptionResponse.of(PROJECT_REACTION_QUEUE_FULL, PROJECT_REACTION_QUEUE_FULL.getMessage()),
+                HttpStatus.valueOf(PROJECT_REACTION_QUEUE_FULL.getHttpStatus().value())
+        );
+    }
+}
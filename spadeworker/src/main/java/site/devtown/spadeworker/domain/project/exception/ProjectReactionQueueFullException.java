@@ -0,0 +1,9 @@
+package site.devtown.spadeworker.domain.project.exception;
+
+import static site.devtown.spadeworker.domain.project.exception.ProjectExceptionCode.*;
+
+public class ProjectReactionQueueFullException extends RuntimeException {
+    public ProjectReactionQueueFullException() {
+        super(PROJECT_REACTION_QUEUE_FULL.getMessage());
+    }
+}
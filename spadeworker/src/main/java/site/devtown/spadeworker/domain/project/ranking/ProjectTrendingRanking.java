@@ -0,0 +1,213 @@
+package site.devtown.spadeworker.domain.project.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import site.devtown.spadeworker.domain.project.constant.ProjectReactionType;
+import site.devtown.spadeworker.domain.project.dto.ProjectReactionTime;
+import site.devtown.spadeworker.domain.project.event.ProjectReactionEvent;
+import site.devtown.spadeworker.domain.project.repository.ProjectLikeRepository;
+import site.devtown.spadeworker.domain.project.repository.ProjectSubscribeRepository;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * 시간 감쇠가 적용된 트렌딩 프로젝트 랭킹
+ * 좋아요/구독 이벤트마다 점수를 갱신하고, 점수 순으로 정렬된 skip list 에서 상위 N 개를 바로 읽는다.
+ *
+ * 점수는 forward decay 방식으로 기준 시각(epoch) 대비 exp(λ(t - epoch)) 가중치를 누적하므로,
+ * 시간이 흘러도 전체 점수를 다시 계산하지 않고 순위가 유지된다.
+ * 가중치가 너무 커지기 전에 기준 시각을 옮기며 전체 점수를 한 번 축소한다.
+ * 재계산/축소 시에는 새 skip list 를 만든 뒤 교체하므로 조회 중에 비어 있거나 일부만 채워진 순위가 보이지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@PropertySource(
+        value = "classpath:/project-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Component
+public class ProjectTrendingRanking {
+
+    // exp(λ(t - epoch)) 의 지수가 이 값을 넘으면 기준 시각 이동
+    private static final double MAX_EXPONENT = 200;
+    // 현재 시각 기준으로 환산한 점수가 이 값보다 작다면 (좋아요 1 개가 약 10 번의 반감기를 지난 정도) 제거
+    private static final double MIN_CURRENT_SCORE = 1e-3;
+
+    private final ProjectLikeRepository projectLikeRepository;
+    private final ProjectSubscribeRepository projectSubscribeRepository;
+
+    @Value("${project.trending.half-life-hours}")
+    private long halfLifeHours;
+    @Value("${project.trending.rebuild-half-lives}")
+    private long rebuildHalfLives;
+    @Value("${project.trending.like-weight}")
+    private double likeWeight;
+    @Value("${project.trending.subscribe-weight}")
+    private double subscribeWeight;
+
+    private Map<Long, Double> scores = new HashMap<>();
+    private volatile ConcurrentSkipListSet<RankingEntry> ranking = newRanking();
+    private long epochMillis = System.currentTimeMillis();
+
+    /**
+     * 애플리케이션 시작 시 좋아요/구독 등록 시각으로 점수 재계산
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        epochMillis = System.currentTimeMillis();
+        Map<Long, Double> rebuiltScores = new HashMap<>();
+
+        LocalDateTime since = LocalDateTime.now().minusHours(halfLifeHours * rebuildHalfLives);
+
+        try (Stream<ProjectReactionTime> likes = projectLikeRepository.streamAllCreatedAfter(since)) {
+            likes.forEach(like -> rebuiltScores.merge(
+                    like.getProjectId(),
+                    likeWeight * Math.exp(decayExponent(toEpochMillis(like.getCreatedAt()))),
+                    Double::sum
+            ));
+        }
+        try (Stream<ProjectReactionTime> subscribes = projectSubscribeRepository.streamAllCreatedAfter(since)) {
+            subscribes.forEach(subscribe -> rebuiltScores.merge(
+                    subscribe.getProjectId(),
+                    subscribeWeight * Math.exp(decayExponent(toEpochMillis(subscribe.getCreatedAt()))),
+                    Double::sum
+            ));
+        }
+
+        scores = rebuiltScores;
+        ranking = rankingOf(rebuiltScores);
+
+        log.info("트렌딩 프로젝트 랭킹 재계산 완료 : {} 건", scores.size());
+    }
+
+    /**
+     * 커밋된 좋아요/구독 등록 및 취소 이벤트를 점수에 반영
+     * 취소 시에는 원래 반응의 등록 시각 기준 가중치를 빼므로, 등록/취소를 반복해도 점수가 늘지 않는다.
+     */
+    @TransactionalEventListener
+    public synchronized void handleProjectReactionEvent(ProjectReactionEvent event) {
+        // 등록 시각을 알 수 없는 취소는 빼야 할 가중치를 알 수 없으므로 무시 (다음 재계산에서 제외됨)
+        if (event.reactedAt() == null) {
+            return;
+        }
+
+        double weight = (event.reactionType() == ProjectReactionType.LIKE) ? likeWeight : subscribeWeight;
+
+        addScore(event.projectId(), weight * event.delta(), toEpochMillis(event.reactedAt()));
+    }
+
+    /**
+     * 감쇠되어 순위에 의미가 없어진 프로젝트 제거
+     */
+    @Scheduled(fixedDelayString = "${project.trending.prune-interval-millis}")
+    public synchronized void prune() {
+        double minScore = MIN_CURRENT_SCORE * Math.exp(decayExponent(System.currentTimeMillis()));
+
+        scores.entrySet().removeIf(entry -> {
+            if (entry.getValue() >= minScore) {
+                return false;
+            }
+            ranking.remove(new RankingEntry(entry.getKey(), entry.getValue()));
+            return true;
+        });
+    }
+
+    /**
+     * 점수가 높은 순으로 상위 size 개의 프로젝트 id 반환
+     */
+    public List<Long> getTopProjectIds(int size) {
+        // 점수 갱신 중에는 같은 프로젝트가 잠시 두 번 보일 수 있으므로 중복 제거
+        return ranking.stream()
+                .map(RankingEntry::projectId)
+                .distinct()
+                .limit(size)
+                .toList();
+    }
+
+    // 점수 갱신 (synchronized 블록 안에서 호출)
+    private void addScore(
+            Long projectId,
+            double weight,
+            long eventMillis
+    ) {
+        if (decayExponent(eventMillis) > MAX_EXPONENT) {
+            rescale(eventMillis);
+        }
+
+        Double previousScore = scores.get(projectId);
+        double score = ((previousScore == null) ? 0 : previousScore) + weight * Math.exp(decayExponent(eventMillis));
+
+        // 취소로 점수가 남지 않은 프로젝트는 순위에서 제거
+        if (score <= 0) {
+            scores.remove(projectId);
+            if (previousScore != null) {
+                ranking.remove(new RankingEntry(projectId, previousScore));
+            }
+            return;
+        }
+
+        // 새 점수를 먼저 추가해 조회 중에 프로젝트가 순위에서 잠시 빠지지 않도록 함
+        scores.put(projectId, score);
+        ranking.add(new RankingEntry(projectId, score));
+        if (previousScore != null) {
+            ranking.remove(new RankingEntry(projectId, previousScore));
+        }
+    }
+
+    // 기준 시각을 옮기고 모든 점수를 같은 비율로 축소 (순위는 그대로 유지)
+    private void rescale(long newEpochMillis) {
+        double factor = Math.exp(-decayExponent(newEpochMillis));
+
+        scores.replaceAll((projectId, score) -> score * factor);
+        ranking = rankingOf(scores);
+
+        epochMillis = newEpochMillis;
+    }
+
+    private ConcurrentSkipListSet<RankingEntry> rankingOf(Map<Long, Double> projectScores) {
+        ConcurrentSkipListSet<RankingEntry> newRanking = newRanking();
+        projectScores.forEach((projectId, score) -> newRanking.add(new RankingEntry(projectId, score)));
+
+        return newRanking;
+    }
+
+    private static ConcurrentSkipListSet<RankingEntry> newRanking() {
+        return new ConcurrentSkipListSet<>(
+                Comparator.comparingDouble(RankingEntry::score).reversed()
+                        .thenComparing(RankingEntry::projectId)
+        );
+    }
+
+    // λ(t - epoch), λ = ln2 / 반감기
+    private double decayExponent(long eventMillis) {
+        return Math.log(2) * (eventMillis - epochMillis) / Duration.ofHours(halfLifeHours).toMillis();
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record RankingEntry(
+            Long projectId,
+            double score
+    ) {
+    }
+}
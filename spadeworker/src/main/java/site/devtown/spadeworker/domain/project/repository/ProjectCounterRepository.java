@@ -0,0 +1,118 @@
+package site.devtown.spadeworker.domain.project.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import site.devtown.spadeworker.domain.project.constant.ProjectReactionType;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project 의 좋아요/구독자 수 컬럼을 JDBC batch 로 갱신하는 Repository
+ */
+@RequiredArgsConstructor
+@Repository
+public class ProjectCounterRepository {
+
+    private static final String ADD_LIKE_COUNT_SQL =
+            "update project set like_count = like_count + ?, updated_at = ? where id = ?";
+    private static final String ADD_SUBSCRIBER_COUNT_SQL =
+            "update project set subscriber_count = subscriber_count + ?, updated_at = ? where id = ?";
+    private static final String DRIFTED_CONDITION = """
+            (p.like_count <> (select count(*) from project_like l where l.project_id = p.id)
+               or p.subscriber_count <> (select count(*) from project_subscribe s where s.project_id = p.id))
+            """;
+    private static final String FIND_IDS_AFTER_SQL =
+            "select id from project where id > ? order by id limit ?";
+    private static final String FIND_DRIFTED_SQL =
+            "select p.id, p.updated_at from project p where p.id in (%s) and " + DRIFTED_CONDITION;
+    // 관찰 이후 카운트가 갱신되지 않았고 최근 등록된 반응이 없는 row 만 보정
+    private static final String RECONCILE_COUNTS_SQL = """
+            update project p
+            set like_count = (select count(*) from project_like l where l.project_id = p.id),
+                subscriber_count = (select count(*) from project_subscribe s where s.project_id = p.id),
+                updated_at = ?
+            where p.id = ?
+              and p.updated_at = ?
+              and not exists (select 1 from project_like l where l.project_id = p.id and l.created_at >= ?)
+              and not exists (select 1 from project_subscribe s where s.project_id = p.id and s.created_at >= ?)
+              and """ + DRIFTED_CONDITION;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 프로젝트별 카운트 변화량을 하나의 batch update 로 반영
+     * 조건부 GET 의 버전이 바뀌도록 updated_at 도 함께 갱신
+     */
+    public void addCounts(
+            ProjectReactionType reactionType,
+            Map<Long, Long> deltas
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = deltas.entrySet()
+                .stream()
+                .map(e -> new Object[]{e.getValue(), now, e.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                (reactionType == ProjectReactionType.LIKE) ? ADD_LIKE_COUNT_SQL : ADD_SUBSCRIBER_COUNT_SQL,
+                batchArgs
+        );
+    }
+
+    /**
+     * id 순으로 afterId 다음의 프로젝트 id 조회 (보정 대상을 나누어 읽기 위함)
+     */
+    public List<Long> findIdsAfter(
+            long afterId,
+            int limit
+    ) {
+        return jdbcTemplate.queryForList(FIND_IDS_AFTER_SQL, Long.class, afterId, limit);
+    }
+
+    /**
+     * 주어진 프로젝트 중 카운트 컬럼이 원본 테이블과 어긋난 프로젝트의 id 와 관찰 시점의 updated_at 조회 (잠금 없음)
+     */
+    public Map<Long, LocalDateTime> findDrifted(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(projectIds.size(), "?"));
+        Map<Long, LocalDateTime> drifted = new HashMap<>();
+        jdbcTemplate.query(
+                FIND_DRIFTED_SQL.formatted(placeholders),
+                rs -> {
+                    drifted.put(rs.getLong("id"), rs.getTimestamp("updated_at").toLocalDateTime());
+                },
+                projectIds.toArray()
+        );
+
+        return drifted;
+    }
+
+    /**
+     * 관찰 이후 변화가 없는 프로젝트의 카운트 컬럼을 원본 테이블 기준으로 보정 후 보정된 row 수 반환
+     * row 단위로 갱신하여 한 번에 하나의 프로젝트만 잠근다.
+     */
+    public int reconcileCounts(
+            Map<Long, LocalDateTime> observedUpdatedAts,
+            LocalDateTime recentReactionCutoff
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = observedUpdatedAts.entrySet()
+                .stream()
+                .map(e -> new Object[]{now, e.getKey(), e.getValue(), recentReactionCutoff, recentReactionCutoff})
+                .toList();
+
+        return Arrays.stream(jdbcTemplate.batchUpdate(RECONCILE_COUNTS_SQL, batchArgs))
+                .map(count -> Math.max(count, 0))
+                .sum();
+    }
+}
@@ -1,18 +1,114 @@
 package site.devtown.spadeworker.domain.project.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import site.devtown.spadeworker.domain.project.entity.Project;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.devtown.spadeworker.domain.project.dto.ProjectReactionTime;
+import site.devtown.spadeworker.domain.project.dto.ProjectVersion;
 import site.devtown.spadeworker.domain.project.entity.ProjectLike;
-import site.devtown.spadeworker.domain.user.model.entity.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ProjectLikeRepository
         extends JpaRepository<ProjectLike, Long> {
 
-    Boolean existsByProjectAndUser(Project project, User user);
+    /**
+     * 프로젝트가 존재하고 아직 좋아요가 없는 경우에만 좋아요 등록 (등록된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = """
+            insert into project_like (id, project_id, user_id, created_at, updated_at)
+            select :id, p.id, :userId, :now, :now
+            from project p
+            where p.id = :projectId
+              and not exists (
+                  select 1
+                  from project_like r
+                  where r.project_id = :projectId
+                    and r.user_id = :userId
+              )
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("id") Long id,
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            @Param("now") LocalDateTime now
+    );
 
-    Optional<ProjectLike> findByProjectAndUser(Project project, User user);
+    /**
+     * 프로젝트 좋아요 삭제 (삭제된 행 수 반환)
+     */
+    @Modifying
+    @Query("""
+            delete from ProjectLike r
+            where r.project.id = :projectId
+              and r.user.id = :userId
+            """)
+    int deleteByProjectIdAndUserId(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId
+    );
 
-    int countAllByProject(Project project);
+    /**
+     * 사용자의 프로젝트 좋아요 등록 시각 조회
+     */
+    @Query("""
+            select r.createdAt
+            from ProjectLike r
+            where r.project.id = :projectId
+              and r.user.id = :userId
+            """)
+    Optional<LocalDateTime> findCreatedAtByProjectIdAndUserId(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId
+    );
+
+    /**
+     * 특정 시각 이후 등록된 좋아요의 프로젝트 id 와 등록 시각 스트리밍 조회
+     */
+    @Query("""
+            select r.project.id as projectId, r.createdAt as createdAt
+            from ProjectLike r
+            where r.createdAt >= :since
+            """)
+    Stream<ProjectReactionTime> streamAllCreatedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * 주어진 프로젝트 중 사용자가 좋아요한 프로젝트 id 조회
+     */
+    @Query("""
+            select r.project.id
+            from ProjectLike r
+            where r.user.id = :userId
+              and r.project.id in :projectIds
+            """)
+    Set<Long> findProjectIdsLikedBy(
+            @Param("userId") Long userId,
+            @Param("projectIds") Collection<Long> projectIds
+    );
+
+    /**
+     * 사용자가 좋아요한 모든 프로젝트 id 조회
+     */
+    @Query("""
+            select r.project.id
+            from ProjectLike r
+            where r.user.id = :userId
+            """)
+    Set<Long> findAllProjectIdsLikedBy(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 좋아요 목록 버전 조회 (좋아요 수와 마지막 등록 시각)
+     */
+    @Query("""
+            select new site.devtown.spadeworker.domain.project.dto.ProjectVersion(count(r), max(r.createdAt))
+            from ProjectLike r
+            where r.user.id = :userId
+            """)
+    ProjectVersion findVersionByUserId(@Param("userId") Long userId);
 }
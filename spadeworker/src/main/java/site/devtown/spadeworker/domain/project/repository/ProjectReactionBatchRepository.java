@@ -0,0 +1,118 @@
+package site.devtown.spadeworker.domain.project.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import site.devtown.spadeworker.domain.project.constant.ProjectReactionType;
+import site.devtown.spadeworker.domain.project.dto.ProjectReactionMutation;
+import site.devtown.spadeworker.global.util.TsidUtil;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 프로젝트 좋아요/구독 등록 및 취소를 JDBC batch 로 반영하는 Repository
+ * 반환하는 행 수는 요청 순서와 같으며, 드라이버가 정확한 행 수를 반환해야 한다. (rewriteBatchedStatements 미사용)
+ */
+@RequiredArgsConstructor
+@Repository
+public class ProjectReactionBatchRepository {
+
+    private static final String INSERT_LIKE_IF_ABSENT_SQL = """
+            insert into project_like (id, project_id, user_id, created_at, updated_at)
+            select ?, p.id, ?, ?, ?
+            from project p
+            where p.id = ?
+              and not exists (select 1 from project_like r where r.project_id = ? and r.user_id = ?)
+            """;
+    private static final String INSERT_SUBSCRIBE_IF_ABSENT_SQL = """
+            insert into project_subscribe (id, project_id, subscriber_id, created_at, updated_at)
+            select ?, p.id, ?, ?, ?
+            from project p
+            where p.id = ?
+              and not exists (select 1 from project_subscribe r where r.project_id = ? and r.subscriber_id = ?)
+            """;
+    private static final String DELETE_LIKE_SQL =
+            "delete from project_like where project_id = ? and user_id = ?";
+    private static final String DELETE_SUBSCRIBE_SQL =
+            "delete from project_subscribe where project_id = ? and subscriber_id = ?";
+
+    private static final String FIND_LIKE_CREATED_AT_SQL =
+            "select project_id, user_id, created_at from project_like where %s";
+    private static final String FIND_SUBSCRIBE_CREATED_AT_SQL =
+            "select project_id, subscriber_id, created_at from project_subscribe where %s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 프로젝트가 존재하고 아직 등록되지 않은 요청만 batch insert 후 요청별 등록된 행 수 반환
+     */
+    public int[] insertAllIfAbsent(
+            ProjectReactionType reactionType,
+            List<ProjectReactionMutation> mutations
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = mutations.stream()
+                .map(m -> new Object[]{TsidUtil.nextId(), m.userId(), now, now, m.projectId(), m.projectId(), m.userId()})
+                .toList();
+
+        return jdbcTemplate.batchUpdate(
+                (reactionType == ProjectReactionType.LIKE) ? INSERT_LIKE_IF_ABSENT_SQL : INSERT_SUBSCRIBE_IF_ABSENT_SQL,
+                batchArgs
+        );
+    }
+
+    /**
+     * 요청별 등록 시각 조회 (요청 순서와 같으며, 등록되지 않은 요청은 null)
+     */
+    public LocalDateTime[] findCreatedAts(
+            ProjectReactionType reactionType,
+            List<ProjectReactionMutation> mutations
+    ) {
+        boolean like = (reactionType == ProjectReactionType.LIKE);
+        String condition = String.join(
+                " or ",
+                Collections.nCopies(mutations.size(), like ? "(project_id = ? and user_id = ?)" : "(project_id = ? and subscriber_id = ?)")
+        );
+        Object[] args = mutations.stream()
+                .flatMap(m -> Stream.of(m.projectId(), m.userId()))
+                .toArray();
+
+        Map<List<Long>, LocalDateTime> createdAts = new HashMap<>();
+        jdbcTemplate.query(
+                String.format(like ? FIND_LIKE_CREATED_AT_SQL : FIND_SUBSCRIBE_CREATED_AT_SQL, condition),
+                rs -> {
+                    createdAts.put(
+                            List.of(rs.getLong(1), rs.getLong(2)),
+                            rs.getObject(3, LocalDateTime.class)
+                    );
+                },
+                args
+        );
+
+        return mutations.stream()
+                .map(m -> createdAts.get(List.of(m.projectId(), m.userId())))
+                .toArray(LocalDateTime[]::new);
+    }
+
+    /**
+     * 요청들을 batch delete 후 요청별 삭제된 행 수 반환
+     */
+    public int[] deleteAll(
+            ProjectReactionType reactionType,
+            List<ProjectReactionMutation> mutations
+    ) {
+        List<Object[]> batchArgs = mutations.stream()
+                .map(m -> new Object[]{m.projectId(), m.userId()})
+                .toList();
+
+        return jdbcTemplate.batchUpdate(
+                (reactionType == ProjectReactionType.LIKE) ? DELETE_LIKE_SQL : DELETE_SUBSCRIBE_SQL,
+                batchArgs
+        );
+    }
+}
@@ -1,10 +1,163 @@
 package site.devtown.spadeworker.domain.project.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import site.devtown.spadeworker.domain.project.dto.ProjectSummary;
+import site.devtown.spadeworker.domain.project.dto.ProjectVersion;
 import site.devtown.spadeworker.domain.project.entity.Project;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 public interface ProjectRepository
         extends JpaRepository<Project, Long> {
 
+    String PROJECT_SUMMARY_SELECT = """
+            select p.id as projectId,
+                   p.title as title,
+                   p.description as description,
+                   p.thumbnailImageUri as thumbnailImageUri,
+                   p.thumbnailVariantUris as thumbnailVariantUris,
+                   p.likeCount as likeCount,
+                   p.subscriberCount as subscriberCount,
+                   u.id as userId,
+                   u.nickname as nickname,
+                   u.profileImageUri as profileImageUri,
+                   p.createdAt as createdAt
+            from Project p
+            join p.user u
+            """;
+
     boolean existsByTitle(String title);
+
+    /**
+     * 썸네일이 변경되지 않은 경우에만 썸네일 리사이즈 이미지 경로 기록
+     */
+    @Modifying
+    @Query("""
+            update Project p
+            set p.thumbnailVariantUris = :thumbnailVariantUris,
+                p.updatedAt = :now
+            where p.id = :projectId
+              and p.thumbnailImageUri = :thumbnailImageUri
+            """)
+    int updateThumbnailVariantUris(
+            @Param("projectId") Long projectId,
+            @Param("thumbnailImageUri") String thumbnailImageUri,
+            @Param("thumbnailVariantUris") String thumbnailVariantUris,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 썸네일 리사이즈 이미지 경로 초기화
+     */
+    @Modifying
+    @Query("""
+            update Project p
+            set p.thumbnailVariantUris = null
+            where p.id = :projectId
+            """)
+    int clearThumbnailVariantUris(@Param("projectId") Long projectId);
+
+    /**
+     * 전체 프로젝트 버전 조회
+     */
+    @Query("""
+            select new site.devtown.spadeworker.domain.project.dto.ProjectVersion(count(p), max(p.updatedAt))
+            from Project p
+            """)
+    ProjectVersion findVersion();
+
+    /**
+     * 특정 프로젝트 버전 조회
+     */
+    @Query("""
+            select new site.devtown.spadeworker.domain.project.dto.ProjectVersion(count(p), max(p.updatedAt))
+            from Project p
+            where p.id = :projectId
+            """)
+    ProjectVersion findVersionById(@Param("projectId") Long projectId);
+
+    /**
+     * 전체 프로젝트 Projection 조회
+     */
+    @Query(PROJECT_SUMMARY_SELECT)
+    List<ProjectSummary> findAllSummaries();
+
+    /**
+     * 전체 프로젝트 Projection 을 forward-only 커서로 스트리밍 조회
+     * (MySQL 은 useCursorFetch=true 일 때만 fetch size 가 적용되므로 spring.datasource.hikari.data-source-properties 에 설정)
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(PROJECT_SUMMARY_SELECT)
+    Stream<ProjectSummary> streamAllSummaries();
+
+    /**
+     * 특정 프로젝트 Projection 조회
+     */
+    @Query(PROJECT_SUMMARY_SELECT + """
+            where p.id = :projectId
+            """)
+    Optional<ProjectSummary> findSummaryById(@Param("projectId") Long projectId);
+
+    /**
+     * 여러 프로젝트 Projection 조회
+     */
+    @Query(PROJECT_SUMMARY_SELECT + """
+            where p.id in :projectIds
+            """)
+    List<ProjectSummary> findSummariesByIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * 주어진 id 중 존재하는 프로젝트 id 조회
+     */
+    @Query("""
+            select p.id
+            from Project p
+            where p.id in :projectIds
+            """)
+    Set<Long> findExistingIdsByIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * 주어진 경로 중 프로젝트 썸네일로 참조 중인 경로 조회
+     */
+    @Query("""
+            select p.thumbnailImageUri
+            from Project p
+            where p.thumbnailImageUri in :imageUris
+            """)
+    Set<String> findReferencedThumbnailImageUris(@Param("imageUris") Collection<String> imageUris);
+
+    /**
+     * 최신순 첫 페이지 조회 (count 쿼리 없음)
+     */
+    @Query(PROJECT_SUMMARY_SELECT + """
+            order by p.createdAt desc, p.id desc
+            """)
+    List<ProjectSummary> findFirstPage(Pageable pageable);
+
+    /**
+     * (createdAt, id) 커서 이후의 페이지 조회 (count 쿼리 없음)
+     */
+    @Query(PROJECT_SUMMARY_SELECT + """
+            where p.createdAt < :createdAt
+               or (p.createdAt = :createdAt and p.id < :projectId)
+            order by p.createdAt desc, p.id desc
+            """)
+    List<ProjectSummary> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("projectId") Long projectId,
+            Pageable pageable
+    );
 }
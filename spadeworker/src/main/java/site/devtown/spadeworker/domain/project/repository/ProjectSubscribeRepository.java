@@ -1,18 +1,114 @@
 package site.devtown.spadeworker.domain.project.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import site.devtown.spadeworker.domain.project.entity.Project;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.devtown.spadeworker.domain.project.dto.ProjectReactionTime;
+import site.devtown.spadeworker.domain.project.dto.ProjectVersion;
 import site.devtown.spadeworker.domain.project.entity.ProjectSubscribe;
-import site.devtown.spadeworker.domain.user.model.entity.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ProjectSubscribeRepository
         extends JpaRepository<ProjectSubscribe, Long> {
 
-    Boolean existsByProjectAndSubscriber(Project project, User subscriber);
+    /**
+     * 프로젝트가 존재하고 아직 구독가 없는 경우에만 구독 등록 (등록된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = """
+            insert into project_subscribe (id, project_id, subscriber_id, created_at, updated_at)
+            select :id, p.id, :userId, :now, :now
+            from project p
+            where p.id = :projectId
+              and not exists (
+                  select 1
+                  from project_subscribe r
+                  where r.project_id = :projectId
+                    and r.subscriber_id = :userId
+              )
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("id") Long id,
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            @Param("now") LocalDateTime now
+    );
 
-    Optional<ProjectSubscribe> findByProjectAndSubscriber(Project project, User subscriber);
+    /**
+     * 프로젝트 구독 삭제 (삭제된 행 수 반환)
+     */
+    @Modifying
+    @Query("""
+            delete from ProjectSubscribe r
+            where r.project.id = :projectId
+              and r.subscriber.id = :userId
+            """)
+    int deleteByProjectIdAndSubscriberId(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId
+    );
 
-    int countAllByProject(Project project);
+    /**
+     * 사용자의 프로젝트 구독 등록 시각 조회
+     */
+    @Query("""
+            select r.createdAt
+            from ProjectSubscribe r
+            where r.project.id = :projectId
+              and r.subscriber.id = :userId
+            """)
+    Optional<LocalDateTime> findCreatedAtByProjectIdAndSubscriberId(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId
+    );
+
+    /**
+     * 특정 시각 이후 등록된 구독의 프로젝트 id 와 등록 시각 스트리밍 조회
+     */
+    @Query("""
+            select r.project.id as projectId, r.createdAt as createdAt
+            from ProjectSubscribe r
+            where r.createdAt >= :since
+            """)
+    Stream<ProjectReactionTime> streamAllCreatedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * 주어진 프로젝트 중 사용자가 구독한 프로젝트 id 조회
+     */
+    @Query("""
+            select r.project.id
+            from ProjectSubscribe r
+            where r.subscriber.id = :userId
+              and r.project.id in :projectIds
+            """)
+    Set<Long> findProjectIdsSubscribedBy(
+            @Param("userId") Long userId,
+            @Param("projectIds") Collection<Long> projectIds
+    );
+
+    /**
+     * 사용자가 구독한 모든 프로젝트 id 조회
+     */
+    @Query("""
+            select r.project.id
+            from ProjectSubscribe r
+            where r.subscriber.id = :userId
+            """)
+    Set<Long> findAllProjectIdsSubscribedBy(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 구독 목록 버전 조회 (구독 수와 마지막 등록 시각)
+     */
+    @Query("""
+            select new site.devtown.spadeworker.domain.project.dto.ProjectVersion(count(r), max(r.createdAt))
+            from ProjectSubscribe r
+            where r.subscriber.id = :userId
+            """)
+    ProjectVersion findVersionBySubscriberId(@Param("userId") Long userId);
 }
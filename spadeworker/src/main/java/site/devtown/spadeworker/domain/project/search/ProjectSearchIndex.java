@@ -0,0 +1,176 @@
+package site.devtown.spadeworker.domain.project.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import site.devtown.spadeworker.domain.project.dto.ProjectSummary;
+import site.devtown.spadeworker.domain.project.event.ProjectCreatedEvent;
+import site.devtown.spadeworker.domain.project.event.ProjectUpdatedEvent;
+import site.devtown.spadeworker.domain.project.repository.ProjectRepository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 프로젝트 제목/설명에 대한 메모리 역색인
+ * 애플리케이션 시작 시 projects 테이블로부터 색인을 만들고,
+ * 프로젝트 생성/수정 이벤트로 해당 문서만 다시 색인한다.
+ * 검색 결과는 BM25 점수 순으로 정렬한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProjectSearchIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 등장한 토큰은 설명보다 높은 가중치로 색인
+    private static final int TITLE_BOOST = 2;
+
+    private final ProjectRepository projectRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (projectId -> term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // projectId -> (term -> term frequency)
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    // projectId -> document length
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalDocumentLength = 0;
+
+    /**
+     * 애플리케이션 시작 시 전체 프로젝트 색인
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        try (Stream<ProjectSummary> projects = projectRepository.streamAllSummaries()) {
+            projects.forEach(p -> index(p.getProjectId(), p.getTitle(), p.getDescription()));
+        }
+
+        log.info("프로젝트 검색 색인 완료 : {} 건", documents.size());
+    }
+
+    /**
+     * 커밋된 프로젝트 생성 이벤트 색인
+     */
+    @TransactionalEventListener
+    public void handleProjectCreatedEvent(ProjectCreatedEvent event) {
+        index(event.projectId(), event.title(), event.description());
+    }
+
+    /**
+     * 커밋된 프로젝트 수정 이벤트 재색인
+     */
+    @TransactionalEventListener
+    public void handleProjectUpdatedEvent(ProjectUpdatedEvent event) {
+        index(event.projectId(), event.title(), event.description());
+    }
+
+    /**
+     * 프로젝트 문서 색인 (이미 색인된 문서라면 교체)
+     */
+    public void index(
+            Long projectId,
+            String title,
+            String description
+    ) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        ProjectSearchTokenizer.tokenize(title)
+                .forEach(term -> termFrequencies.merge(term, TITLE_BOOST, Integer::sum));
+        ProjectSearchTokenizer.tokenize(description)
+                .forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            remove(projectId);
+
+            int documentLength = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(projectId, entry.getValue());
+                documentLength += entry.getValue();
+            }
+
+            documents.put(projectId, termFrequencies);
+            documentLengths.put(projectId, documentLength);
+            totalDocumentLength += documentLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 프로젝트 id 를 BM25 점수 내림차순으로 페이지 단위 반환
+     */
+    public List<Long> search(
+            String query,
+            int page,
+            int size
+    ) {
+        Set<String> queryTerms = new HashSet<>(ProjectSearchTokenizer.tokenize(query));
+
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            double averageDocumentLength = (documentCount == 0) ? 0 : (double) totalDocumentLength / documentCount;
+
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+
+                posting.forEach((projectId, frequency) -> {
+                    int documentLength = documentLengths.get(projectId);
+                    double normalizedFrequency = frequency * (K1 + 1)
+                            / (frequency + K1 * (1 - B + B * documentLength / averageDocumentLength));
+                    scores.merge(projectId, idf * normalizedFrequency, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .skip((long) page * size)
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 색인된 문서와 posting 제거 (write lock 안에서 호출)
+    private void remove(Long projectId) {
+        Map<String, Integer> termFrequencies = documents.remove(projectId);
+
+        if (termFrequencies == null) {
+            return;
+        }
+
+        termFrequencies.keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(projectId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        totalDocumentLength -= documentLengths.remove(projectId);
+    }
+}
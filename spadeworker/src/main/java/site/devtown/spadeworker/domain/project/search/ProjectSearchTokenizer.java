@@ -0,0 +1,71 @@
+package site.devtown.spadeworker.domain.project.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로젝트 검색용 Tokenizer
+ * 한글은 형태소 분석기 없이도 부분 일치가 가능하도록 음절 bigram 으로,
+ * 그 외 문자(영문, 숫자)는 소문자 단어 단위로 분리한다.
+ */
+public class ProjectSearchTokenizer {
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        int length = normalized.length();
+        int index = 0;
+
+        while (index < length) {
+            char c = normalized.charAt(index);
+
+            if (isHangul(c)) {
+                int end = index;
+                while (end < length && isHangul(normalized.charAt(end))) {
+                    end++;
+                }
+                addHangulBigrams(normalized.substring(index, end), tokens);
+                index = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = index;
+                while (end < length
+                        && Character.isLetterOrDigit(normalized.charAt(end))
+                        && !isHangul(normalized.charAt(end))) {
+                    end++;
+                }
+                tokens.add(normalized.substring(index, end));
+                index = end;
+            } else {
+                index++;
+            }
+        }
+
+        return tokens;
+    }
+
+    // 한글 어절을 음절 bigram 으로 분리 (한 글자 어절은 그대로 사용)
+    private static void addHangulBigrams(
+            String word,
+            List<String> tokens
+    ) {
+        if (word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+
+        for (int i = 0; i < word.length() - 1; i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    // 한글 음절 여부
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,58 @@
+package site.devtown.spadeworker.domain.project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import site.devtown.spadeworker.domain.project.dto.ProjectDto;
+import site.devtown.spadeworker.domain.project.event.ProjectReactionEvent;
+import site.devtown.spadeworker.domain.project.event.ProjectUpdatedEvent;
+
+import java.util.function.Function;
+
+/**
+ * 프로젝트 단건 조회 캐시 관리
+ * 프로젝트 수정 시 캐시를 무효화하고, 좋아요/구독 변화는 캐시된 값에 바로 반영
+ */
+@RequiredArgsConstructor
+@Service
+public class ProjectCacheService {
+
+    private final Cache<Long, ProjectDto> projectDtoCache;
+
+    /**
+     * 캐시된 프로젝트 조회, 없다면 loader 로 조회 후 캐시
+     */
+    public ProjectDto get(
+            Long projectId,
+            Function<Long, ProjectDto> loader
+    ) {
+        return projectDtoCache.get(projectId, loader);
+    }
+
+    /**
+     * 캐시된 프로젝트 무효화
+     */
+    public void evict(Long projectId) {
+        projectDtoCache.invalidate(projectId);
+    }
+
+    /**
+     * 커밋된 프로젝트 수정 이벤트에 대한 캐시 무효화
+     */
+    @TransactionalEventListener
+    public void handleProjectUpdatedEvent(ProjectUpdatedEvent event) {
+        projectDtoCache.invalidate(event.projectId());
+    }
+
+    /**
+     * 커밋된 좋아요/구독 이벤트를 캐시된 프로젝트의 카운트에 반영
+     */
+    @TransactionalEventListener
+    public void handleProjectReactionEvent(ProjectReactionEvent event) {
+        projectDtoCache.asMap().computeIfPresent(
+                event.projectId(),
+                (projectId, project) -> project.withReactionDelta(event.reactionType(), event.delta())
+        );
+    }
+}
@@ -0,0 +1,173 @@
+package site.devtown.spadeworker.domain.project.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import site.devtown.spadeworker.domain.project.constant.ProjectReactionType;
+import site.devtown.spadeworker.domain.project.event.ProjectReactionEvent;
+import site.devtown.spadeworker.domain.project.repository.ProjectCounterRepository;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로젝트 좋아요/구독자 수 write-behind 카운터
+ * 커밋된 좋아요/구독 변화량을 메모리에 누적한 뒤 주기적으로 batch update 로 반영하고,
+ * 원본 테이블 기준의 보정 작업으로 누락된 변화량을 바로잡는다.
+ * 보정은 반영되지 않은 변화량이 있을 수 있는 프로젝트를 건너뛰므로 변화량 누적을 멈추지 않으며, 여러 인스턴스에서도 중복 반영되지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@PropertySource(
+        value = "classpath:/project-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Service
+public class ProjectCounterService {
+
+    private final ProjectCounterRepository projectCounterRepository;
+
+    // 프로젝트별 변화량 (LongAdder 로 hot project 의 경합을 분산)
+    private final Map<ProjectReactionType, ConcurrentHashMap<Long, LongAdder>> pendingDeltas =
+            new EnumMap<>(Map.of(
+                    ProjectReactionType.LIKE, new ConcurrentHashMap<>(),
+                    ProjectReactionType.SUBSCRIBE, new ConcurrentHashMap<>()
+            ));
+
+    @Value("${project.counter.reconcile-batch-size}")
+    private int reconcileBatchSize;
+    @Value("${project.counter.reconcile-settle-millis}")
+    private long reconcileSettleMillis;
+
+    /**
+     * 커밋된 좋아요/구독 이벤트의 변화량 누적
+     */
+    @TransactionalEventListener
+    public void handleProjectReactionEvent(ProjectReactionEvent event) {
+        pendingDeltas.get(event.reactionType())
+                .computeIfAbsent(event.projectId(), id -> new LongAdder())
+                .add(event.delta());
+    }
+
+    /**
+     * 누적된 변화량을 batch update 로 반영
+     */
+    @Scheduled(fixedDelayString = "${project.counter.flush-delay}")
+    public synchronized void flush() {
+        pendingDeltas.forEach((reactionType, deltas) -> {
+            Map<Long, Long> drained = drain(deltas);
+
+            if (drained.isEmpty()) {
+                return;
+            }
+
+            try {
+                projectCounterRepository.addCounts(reactionType, drained);
+            } catch (RuntimeException e) {
+                // 반영에 실패한 변화량은 다음 flush 에서 재시도
+                log.error("프로젝트 {} 카운트 반영 실패", reactionType.getDescription(), e);
+                drained.forEach((projectId, delta) -> deltas
+                        .computeIfAbsent(projectId, id -> new LongAdder())
+                        .add(delta));
+            }
+        });
+    }
+
+    /**
+     * 원본 테이블 기준으로 카운트 컬럼 보정
+     * 1. id 순으로 batch 단위로 읽으며 카운트가 어긋난 프로젝트와 그 시점의 updated_at 을 잠금 없이 수집
+     * 2. 다른 인스턴스의 변화량이 flush 될 만큼 기다린 뒤, 그 사이 카운트가 갱신되지 않았고 (updated_at 그대로)
+     *    최근 등록된 반응과 이 인스턴스에 반영 대기 중인 변화량이 없는 프로젝트만 row 단위로 보정
+     * 건너뛴 프로젝트는 다음 보정에서 다시 확인한다.
+     */
+    @Scheduled(cron = "${project.counter.reconcile-cron}")
+    public void reconcile() {
+        Map<Long, LocalDateTime> drifted = new HashMap<>();
+        long afterId = 0;
+        List<Long> projectIds;
+        while (!(projectIds = projectCounterRepository.findIdsAfter(afterId, reconcileBatchSize)).isEmpty()) {
+            drifted.putAll(projectCounterRepository.findDrifted(projectIds));
+            afterId = projectIds.get(projectIds.size() - 1);
+        }
+
+        if (drifted.isEmpty()) {
+            return;
+        }
+
+        try {
+            TimeUnit.MILLISECONDS.sleep(reconcileSettleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        LocalDateTime recentReactionCutoff = LocalDateTime.now().minus(reconcileSettleMillis, ChronoUnit.MILLIS);
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        int reconciledCount = 0;
+        for (Map.Entry<Long, LocalDateTime> entry : drifted.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() >= reconcileBatchSize) {
+                reconciledCount += reconcileBatch(batch, recentReactionCutoff);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            reconciledCount += reconcileBatch(batch, recentReactionCutoff);
+        }
+
+        if (reconciledCount > 0) {
+            log.warn("프로젝트 카운트 보정 완료 : {} 건 (어긋난 프로젝트 {} 건)", reconciledCount, drifted.size());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 이 인스턴스에 반영 대기 중인 변화량이 없는 프로젝트만 보정 (flush 와 엇갈리지 않도록 같은 lock 안에서 실행)
+    private synchronized int reconcileBatch(
+            Map<Long, LocalDateTime> observedUpdatedAts,
+            LocalDateTime recentReactionCutoff
+    ) {
+        Map<Long, LocalDateTime> targets = new HashMap<>(observedUpdatedAts);
+        targets.keySet().removeIf(this::hasPendingDelta);
+
+        return targets.isEmpty() ? 0 : projectCounterRepository.reconcileCounts(targets, recentReactionCutoff);
+    }
+
+    // 이 인스턴스에 아직 반영되지 않은 변화량이 있는지 여부
+    private boolean hasPendingDelta(Long projectId) {
+        return pendingDeltas.values()
+                .stream()
+                .map(deltas -> deltas.get(projectId))
+                .anyMatch(adder -> adder != null && adder.sum() != 0);
+    }
+
+    // 변화량을 읽고 0으로 초기화 (동시에 누적된 값은 유실되지 않고 다음 flush 로 이월)
+    private Map<Long, Long> drain(ConcurrentHashMap<Long, LongAdder> deltas) {
+        Map<Long, Long> drained = new HashMap<>();
+
+        deltas.forEach((projectId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.put(projectId, delta);
+            }
+        });
+
+        return drained;
+    }
+}
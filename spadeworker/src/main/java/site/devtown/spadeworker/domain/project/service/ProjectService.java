@@ -1,89 +1,282 @@
 package site.devtown.spadeworker.domain.project.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.annotation.PropertySources;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import site.devtown.spadeworker.domain.file.service.ImageFileDeletionService;
 import site.devtown.spadeworker.domain.file.service.ImageFileService;
 import site.devtown.spadeworker.domain.project.dto.CreateProjectRequest;
+import site.devtown.spadeworker.domain.project.dto.ProjectBatchItem;
+import site.devtown.spadeworker.domain.project.dto.ProjectCursor;
+import site.devtown.spadeworker.domain.project.dto.ProjectCursorPage;
 import site.devtown.spadeworker.domain.project.dto.ProjectDto;
+import site.devtown.spadeworker.domain.project.dto.ProjectReactionMutation;
+import site.devtown.spadeworker.domain.project.dto.ProjectSummary;
+import site.devtown.spadeworker.domain.project.dto.ProjectVersion;
 import site.devtown.spadeworker.domain.project.dto.UpdateProjectRequest;
 import site.devtown.spadeworker.domain.project.entity.Project;
-import site.devtown.spadeworker.domain.project.entity.ProjectLike;
-import site.devtown.spadeworker.domain.project.entity.ProjectSubscribe;
+import site.devtown.spadeworker.domain.project.event.ProjectCreatedEvent;
+import site.devtown.spadeworker.domain.project.event.ProjectReactionEvent;
+import site.devtown.spadeworker.domain.project.event.ProjectThumbnailChangedEvent;
+import site.devtown.spadeworker.domain.project.event.ProjectUpdatedEvent;
+import site.devtown.spadeworker.domain.project.exception.ProjectBatchSizeExceededException;
 import site.devtown.spadeworker.domain.project.exception.ProjectDuplicateLikeException;
 import site.devtown.spadeworker.domain.project.exception.ProjectDuplicateSubscribeException;
+import site.devtown.spadeworker.domain.project.exception.ProjectExceptionCode;
 import site.devtown.spadeworker.domain.project.exception.ProjectLikeNotFoundException;
 import site.devtown.spadeworker.domain.project.exception.ProjectSubscribeNotFoundException;
+import site.devtown.spadeworker.domain.project.ranking.ProjectTrendingRanking;
 import site.devtown.spadeworker.domain.project.repository.ProjectLikeRepository;
 import site.devtown.spadeworker.domain.project.repository.ProjectRepository;
 import site.devtown.spadeworker.domain.project.repository.ProjectSubscribeRepository;
+import site.devtown.spadeworker.domain.project.search.ProjectSearchIndex;
+import site.devtown.spadeworker.domain.project.writer.ProjectReactionGroupCommitWriter;
 import site.devtown.spadeworker.domain.user.model.entity.User;
 import site.devtown.spadeworker.domain.user.service.UserService;
 import site.devtown.spadeworker.global.exception.InvalidResourceOwnerException;
 import site.devtown.spadeworker.global.exception.ResourceNotFoundException;
 import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
 import site.devtown.spadeworker.global.util.ImageUtil;
-
+import site.devtown.spadeworker.global.util.TsidUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static site.devtown.spadeworker.domain.file.constant.ImageFileType.PROJECT_THUMBNAIL_IMAGE;
+import static site.devtown.spadeworker.domain.project.constant.ProjectReactionType.LIKE;
+import static site.devtown.spadeworker.domain.project.constant.ProjectReactionType.SUBSCRIBE;
 import static site.devtown.spadeworker.domain.project.exception.ProjectExceptionCode.INVALID_PROJECT_OWNER;
 import static site.devtown.spadeworker.domain.project.exception.ProjectExceptionCode.PROJECT_NOT_FOUND;
+import static site.devtown.spadeworker.domain.user.exception.UserExceptionCode.USER_NOT_FOUND;
 
 @RequiredArgsConstructor
-@PropertySource(
-        value = "classpath:/upload-resource-rule.yml",
-        factory = YamlPropertySourceFactory.class
-)
+@PropertySources({
+        @PropertySource(
+                value = "classpath:/upload-resource-rule.yml",
+                factory = YamlPropertySourceFactory.class
+        ),
+        @PropertySource(
+                value = "classpath:/project-rule.yml",
+                factory = YamlPropertySourceFactory.class
+        )
+})
 @Transactional
 @Service
 public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectLikeRepository projectLikeRepository;
     private final ProjectSubscribeRepository projectSubscribeRepository;
+    private final ProjectCacheService projectCacheService;
+    private final ProjectReactionGroupCommitWriter projectReactionGroupCommitWriter;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectTrendingRanking projectTrendingRanking;
     private final ImageFileService imageFileService;
+    private final ImageFileDeletionService imageFileDeletionService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
 
     @Value("${image.project-thumbnail-image.default-image-name}")
     private String localStorageDefaultProjectThumbnailImageName;
     @Value("${image.project-thumbnail-image.default-image-uri}")
     private String localStorageDefaultProjectThumbnailImageUri;
+    @Value("${project.page.max-size}")
+    private int maxPageSize;
 
     /**
      * 프로젝트 전체 조회
      */
     @Transactional(readOnly = true)
     public List<ProjectDto> getAllProjects() {
-        return projectRepository.findAll()
-                .stream()
-                .map(p -> ProjectDto.from(
-                        p,
-                        projectLikeRepository.countAllByProject(p),
-                        projectSubscribeRepository.countAllByProject(p))
-                )
+        return applyViewerReactions(
+                projectRepository.findAllSummaries()
+                        .stream()
+                        .map(ProjectDto::from)
+                        .toList()
+        );
+    }
+
+    /**
+     * 전체 프로젝트를 NDJSON 으로 스트리밍 출력
+     * 목록을 메모리에 올리지 않고 커서로 한 건씩 읽어 바로 출력하므로 테이블 크기와 무관하게 heap 사용량이 일정
+     * (Projection 조회라 영속성 컨텍스트에 엔티티가 쌓이지 않음)
+     */
+    @Transactional(readOnly = true)
+    public void exportProjects(
+            OutputStream outputStream
+    ) throws IOException {
+        ObjectWriter projectWriter = objectMapper.writerFor(ProjectDto.class);
+
+        try (Stream<ProjectSummary> projects = projectRepository.streamAllSummaries()) {
+            Iterator<ProjectSummary> iterator = projects.iterator();
+
+            while (iterator.hasNext()) {
+                outputStream.write(projectWriter.writeValueAsBytes(ProjectDto.from(iterator.next())));
+                outputStream.write('\n');
+            }
+        }
+
+        outputStream.flush();
+    }
+
+    /**
+     * 전체 프로젝트 목록의 버전 조회
+     */
+    @Transactional(readOnly = true)
+    public ProjectVersion getProjectsVersion() {
+        return applyViewerVersion(projectRepository.findVersion());
+    }
+
+    /**
+     * 특정 프로젝트의 버전 조회
+     */
+    @Transactional(readOnly = true)
+    public ProjectVersion getProjectVersion(
+            Long projectId
+    ) {
+        ProjectVersion projectVersion = projectRepository.findVersionById(projectId);
+
+        if (projectVersion.projectCount() == 0) {
+            throw new ResourceNotFoundException(PROJECT_NOT_FOUND);
+        }
+
+        return applyViewerVersion(projectVersion);
+    }
+
+    /**
+     * 커서 기반 프로젝트 페이지 조회
+     * (createdAt, id) keyset 으로 조회하므로 페이지 깊이와 무관하게 일정한 비용으로 조회
+     */
+    @Transactional(readOnly = true)
+    public ProjectCursorPage getProjectsByCursor(
+            String cursor,
+            int size
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+        // 다음 페이지 존재 여부 판별을 위해 한 건 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<ProjectSummary> projects;
+        if (cursor == null || cursor.isBlank()) {
+            projects = projectRepository.findFirstPage(pageRequest);
+        } else {
+            ProjectCursor projectCursor = ProjectCursor.decode(cursor);
+            projects = projectRepository.findPageAfter(
+                    projectCursor.createdAt(),
+                    projectCursor.projectId(),
+                    pageRequest
+            );
+        }
+
+        boolean hasNext = projects.size() > pageSize;
+        List<ProjectDto> pageContent = applyViewerReactions(
+                (hasNext ? projects.subList(0, pageSize) : projects)
+                        .stream()
+                        .map(ProjectDto::from)
+                        .toList()
+        );
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProjectDto last = pageContent.get(pageContent.size() - 1);
+            nextCursor = ProjectCursor.of(last.createdAt(), last.projectId()).encode();
+        }
+
+        return ProjectCursorPage.of(pageContent, nextCursor);
+    }
+
+    /**
+     * 프로젝트 제목/설명 검색
+     * 메모리 역색인에서 BM25 점수 순으로 페이지 단위 id 를 찾은 뒤 한 번의 쿼리로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectDto> searchProjects(
+            String query,
+            int page,
+            int size
+    ) {
+        return getProjectsInOrder(projectSearchIndex.search(
+                query,
+                Math.max(page, 0),
+                Math.min(Math.max(size, 1), maxPageSize)
+        ));
+    }
+
+    /**
+     * 트렌딩 프로젝트 조회
+     * 최근 좋아요/구독 속도에 시간 감쇠를 적용한 메모리 랭킹의 상위 프로젝트를 한 번의 쿼리로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectDto> getTrendingProjects(int size) {
+        return getProjectsInOrder(projectTrendingRanking.getTopProjectIds(
+                Math.min(Math.max(size, 1), maxPageSize)
+        ));
+    }
+
+    /**
+     * 여러 프로젝트 일괄 조회
+     * 요청한 id 순서대로 결과를 반환하며, 존재하지 않는 프로젝트는 항목별 실패로 표시
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectBatchItem> getProjects(List<Long> projectIds) {
+        if (projectIds.size() > maxPageSize) {
+            throw new ProjectBatchSizeExceededException();
+        }
+
+        Map<Long, ProjectDto> projects = findProjectsById(new HashSet<>(projectIds));
+
+        return projectIds.stream()
+                .map(projectId -> projects.containsKey(projectId) ?
+                        ProjectBatchItem.found(projects.get(projectId)) :
+                        ProjectBatchItem.failed(projectId, PROJECT_NOT_FOUND))
                 .toList();
     }
 
     /**
      * 특정 프로젝트 단건 조회
+     * 캐시 hit 시 DB 커넥션을 점유하지 않도록 물리 트랜잭션 없이 수행
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProjectDto getProject(
             Long projectId
     ) {
-        return projectRepository.findById(projectId)
-                .map(p -> ProjectDto.from(
-                        p,
-                        projectLikeRepository.countAllByProject(p),
-                        projectSubscribeRepository.countAllByProject(p))
-                )
-                .orElseThrow(
-                        () -> new ResourceNotFoundException(PROJECT_NOT_FOUND)
-                );
+        ProjectDto project = projectCacheService.get(
+                projectId,
+                id -> projectRepository.findSummaryById(id)
+                        .map(ProjectDto::from)
+                        .orElseThrow(
+                                () -> new ResourceNotFoundException(PROJECT_NOT_FOUND)
+                        )
+        );
+
+        // 캐시에는 사용자와 무관한 값만 저장하고, 좋아요/구독 여부는 조회 시 반영
+        return applyViewerReactions(List.of(project)).get(0);
     }
 
     /**
@@ -102,6 +295,12 @@ public class ProjectService {
 
         // create 로직 진행
         projectRepository.save(project);
+        eventPublisher.publishEvent(ProjectCreatedEvent.of(
+                project.getId(),
+                project.getTitle(),
+                project.getDescription()
+        ));
+        publishThumbnailChangedEvent(project);
     }
 
     /**
@@ -119,6 +318,7 @@ public class ProjectService {
 
         // 현재 인증된 사용자의 리소스가 맞는지 검증
         validateProjectOwner(savedProject.getUser());
+        String savedThumbnailImageUri = savedProject.getThumbnailImageUri();
 
         // update 로직 진행
         savedProject.update(
@@ -129,83 +329,273 @@ public class ProjectService {
                         savedProject.getThumbnailImageUri()
                 )
         );
+
+        // 썸네일이 변경되었다면 기존 리사이즈 이미지 경로를 초기화하고 새 썸네일의 리사이즈 이미지 생성 요청
+        // (기존 리사이즈 이미지 파일은 원본 파일과 함께 삭제됨)
+        if (!savedProject.getThumbnailImageUri().equals(savedThumbnailImageUri)) {
+            projectRepository.clearThumbnailVariantUris(projectId);
+            publishThumbnailChangedEvent(savedProject);
+        }
+
+        eventPublisher.publishEvent(ProjectUpdatedEvent.of(
+                projectId,
+                savedProject.getTitle(),
+                savedProject.getDescription()
+        ));
     }
 
     /**
      * 프로젝트 좋아요 등록 비즈니스 로직
      */
-    public void registerProjectLike(Long projectId) {
-
-        Project savedProject = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException(PROJECT_NOT_FOUND));
-        User currentAuthorizedUser = userService.getCurrentAuthorizedUser();
-
-        // 이미 요청자의 좋아요가 프로젝트에 등록되어 있다면 예외 발생
-        if (projectLikeRepository.existsByProjectAndUser(
-                savedProject,
-                currentAuthorizedUser)
-        ) {
-            throw new ProjectDuplicateLikeException();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> registerProjectLike(Long projectId) {
+        Long currentAuthorizedUserId = getCurrentAuthorizedUserId();
+
+        // group commit 사용 시 writer 의 batch 가 커밋되면 완료
+        if (projectReactionGroupCommitWriter.isEnabled()) {
+            return submitToGroupCommit(
+                    ProjectReactionMutation.register(LIKE, projectId, currentAuthorizedUserId),
+                    ProjectDuplicateLikeException::new
+            );
         }
 
-        // 프로젝트에 좋아요 등록
-        projectLikeRepository.saveAndFlush(
-                ProjectLike.of(savedProject, currentAuthorizedUser)
-        );
+        // 바로 반영하는 경우에만 트랜잭션 시작 (group commit 요청은 커넥션을 점유하지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            // 프로젝트에 좋아요 등록 (동시 요청은 unique 제약조건으로 차단)
+            int insertedCount;
+            try {
+                insertedCount = projectLikeRepository.insertIfAbsent(TsidUtil.nextId(), projectId, currentAuthorizedUserId, LocalDateTime.now());
+            } catch (DataIntegrityViolationException e) {
+                throw new ProjectDuplicateLikeException();
+            }
+
+            if (insertedCount == 0) {
+                validateProjectExists(projectId);
+                throw new ProjectDuplicateLikeException();
+            }
+
+            eventPublisher.publishEvent(
+                    ProjectReactionEvent.registered(LIKE, projectId, currentAuthorizedUserId)
+            );
+        });
+        return CompletableFuture.completedFuture(null);
     }
 
     /**
      * 프로젝트 좋아요 취소 비즈니스 로직
      */
-    public void cancelProjectLike(Long projectId) {
-        Project savedProject = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException(PROJECT_NOT_FOUND));
-        User currentAuthorizedUser = userService.getCurrentAuthorizedUser();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> cancelProjectLike(Long projectId) {
+        Long currentAuthorizedUserId = getCurrentAuthorizedUserId();
+
+        // group commit 사용 시 writer 의 batch 가 커밋되면 완료
+        if (projectReactionGroupCommitWriter.isEnabled()) {
+            return submitToGroupCommit(
+                    ProjectReactionMutation.cancel(LIKE, projectId, currentAuthorizedUserId),
+                    ProjectLikeNotFoundException::new
+            );
+        }
 
-        // 프로젝트에 요청자의 좋아요가 없으면 예외 발생
-        ProjectLike savedProjectLike = projectLikeRepository.findByProjectAndUser(savedProject, currentAuthorizedUser)
-                .orElseThrow(ProjectLikeNotFoundException::new);
+        // 바로 반영하는 경우에만 트랜잭션 시작 (group commit 요청은 커넥션을 점유하지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            // 트렌딩 점수에서 원래 반응의 가중치를 빼기 위해 등록 시각을 먼저 조회
+            LocalDateTime reactedAt = projectLikeRepository.findCreatedAtByProjectIdAndUserId(projectId, currentAuthorizedUserId)
+                    .orElse(null);
 
-        // 프로젝트 좋아요 취소
-        projectLikeRepository.delete(savedProjectLike);
+            // 프로젝트 좋아요 취소
+            int deletedCount = projectLikeRepository.deleteByProjectIdAndUserId(projectId, currentAuthorizedUserId);
+
+            // 프로젝트에 요청자의 좋아요가 없으면 예외 발생
+            if (deletedCount == 0) {
+                validateProjectExists(projectId);
+                throw new ProjectLikeNotFoundException();
+            }
+
+            eventPublisher.publishEvent(
+                    ProjectReactionEvent.canceled(LIKE, projectId, currentAuthorizedUserId, reactedAt)
+            );
+        });
+        return CompletableFuture.completedFuture(null);
     }
 
     /**
      * 프로젝트 구독 등록 비즈니스 로직
      */
-    public void registerProjectSubscribe(Long projectId) {
-        Project savedProject = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException(PROJECT_NOT_FOUND));
-        User currentAuthorizedUser = userService.getCurrentAuthorizedUser();
-
-        // 이미 프로젝트에 구독되어 있다면 예외 발생
-        if (projectSubscribeRepository.existsByProjectAndSubscriber(
-                savedProject,
-                currentAuthorizedUser)
-        ) {
-            throw new ProjectDuplicateSubscribeException();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> registerProjectSubscribe(Long projectId) {
+        Long currentAuthorizedUserId = getCurrentAuthorizedUserId();
+
+        // group commit 사용 시 writer 의 batch 가 커밋되면 완료
+        if (projectReactionGroupCommitWriter.isEnabled()) {
+            return submitToGroupCommit(
+                    ProjectReactionMutation.register(SUBSCRIBE, projectId, currentAuthorizedUserId),
+                    ProjectDuplicateSubscribeException::new
+            );
         }
 
-        // 프로젝트에 구독 등록
-        projectSubscribeRepository.saveAndFlush(
-                ProjectSubscribe.of(savedProject, currentAuthorizedUser)
-        );
+        // 바로 반영하는 경우에만 트랜잭션 시작 (group commit 요청은 커넥션을 점유하지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            // 프로젝트에 구독 등록 (동시 요청은 unique 제약조건으로 차단)
+            int insertedCount;
+            try {
+                insertedCount = projectSubscribeRepository.insertIfAbsent(TsidUtil.nextId(), projectId, currentAuthorizedUserId, LocalDateTime.now());
+            } catch (DataIntegrityViolationException e) {
+                throw new ProjectDuplicateSubscribeException();
+            }
+
+            if (insertedCount == 0) {
+                validateProjectExists(projectId);
+                throw new ProjectDuplicateSubscribeException();
+            }
+
+            eventPublisher.publishEvent(
+                    ProjectReactionEvent.registered(SUBSCRIBE, projectId, currentAuthorizedUserId)
+            );
+        });
+        return CompletableFuture.completedFuture(null);
     }
 
     /**
      * 프로젝트 구독 취소 비즈니스 로직
      */
-    public void cancelProjectSubscribe(Long projectId) {
-        Project savedProject = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException(PROJECT_NOT_FOUND));
-        User currentAuthorizedUser = userService.getCurrentAuthorizedUser();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> cancelProjectSubscribe(Long projectId) {
+        Long currentAuthorizedUserId = getCurrentAuthorizedUserId();
+
+        // group commit 사용 시 writer 의 batch 가 커밋되면 완료
+        if (projectReactionGroupCommitWriter.isEnabled()) {
+            return submitToGroupCommit(
+                    ProjectReactionMutation.cancel(SUBSCRIBE, projectId, currentAuthorizedUserId),
+                    ProjectSubscribeNotFoundException::new
+            );
+        }
 
-        // 프로젝트에 구독되어 있지 않다면 예외 발생
-        ProjectSubscribe projectSubscribe = projectSubscribeRepository.findByProjectAndSubscriber(savedProject, currentAuthorizedUser)
-                .orElseThrow(ProjectSubscribeNotFoundException::new);
+        // 바로 반영하는 경우에만 트랜잭션 시작 (group commit 요청은 커넥션을 점유하지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            // 트렌딩 점수에서 원래 반응의 가중치를 빼기 위해 등록 시각을 먼저 조회
+            LocalDateTime reactedAt = projectSubscribeRepository.findCreatedAtByProjectIdAndSubscriberId(projectId, currentAuthorizedUserId)
+                    .orElse(null);
 
-        // 프로젝트 구독 취소
-        projectSubscribeRepository.delete(projectSubscribe);
+            // 프로젝트 구독 취소
+            int deletedCount = projectSubscribeRepository.deleteByProjectIdAndSubscriberId(projectId, currentAuthorizedUserId);
+
+            // 프로젝트에 구독되어 있지 않다면 예외 발생
+            if (deletedCount == 0) {
+                validateProjectExists(projectId);
+                throw new ProjectSubscribeNotFoundException();
+            }
+
+            eventPublisher.publishEvent(
+                    ProjectReactionEvent.canceled(SUBSCRIBE, projectId, currentAuthorizedUserId, reactedAt)
+            );
+        });
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // group commit writer 에 요청하고, 반영되지 않았다면 원인에 맞는 예외로 완료
+    private CompletableFuture<Void> submitToGroupCommit(
+            ProjectReactionMutation mutation,
+            Supplier<RuntimeException> unchangedExceptionSupplier
+    ) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        projectReactionGroupCommitWriter.submit(mutation)
+                .whenComplete((writeResult, e) -> {
+                    if (e != null) {
+                        result.completeExceptionally(e);
+                        return;
+                    }
+
+                    switch (writeResult) {
+                        case APPLIED -> result.complete(null);
+                        case UNCHANGED -> result.completeExceptionally(unchangedExceptionSupplier.get());
+                        case PROJECT_NOT_FOUND -> result.completeExceptionally(
+                                new ResourceNotFoundException(ProjectExceptionCode.PROJECT_NOT_FOUND)
+                        );
+                    }
+                });
+
+        return result;
+    }
+
+    // 현재 인증된 사용자의 id 조회 (DB 조회 없음)
+    private Long getCurrentAuthorizedUserId() {
+        return userService.getCurrentAuthorizedUserId()
+                .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND));
+    }
+
+    // 영향받은 행이 없을 때 프로젝트 미존재와 중복/미등록을 구분
+    private void validateProjectExists(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException(PROJECT_NOT_FOUND);
+        }
+    }
+
+    // id 목록 순서대로 프로젝트 조회 (존재하지 않는 id 는 제외)
+    private List<ProjectDto> getProjectsInOrder(List<Long> projectIds) {
+        Map<Long, ProjectDto> projects = findProjectsById(projectIds);
+
+        return projectIds.stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 프로젝트와 소유자 정보를 하나의 IN 쿼리로 조회
+    private Map<Long, ProjectDto> findProjectsById(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return applyViewerReactions(
+                projectRepository.findSummariesByIdIn(projectIds)
+                        .stream()
+                        .map(ProjectDto::from)
+                        .toList()
+        )
+                .stream()
+                .collect(Collectors.toMap(ProjectDto::projectId, Function.identity()));
+    }
+
+    // 인증된 사용자의 좋아요/구독 여부를 관계별 한 번의 쿼리로 조회해 반영 (비로그인 요청은 추가 쿼리 없음)
+    private List<ProjectDto> applyViewerReactions(List<ProjectDto> projects) {
+        Optional<Long> viewerId = userService.getCurrentAuthorizedUserId();
+
+        if (viewerId.isEmpty() || projects.isEmpty()) {
+            return projects;
+        }
+
+        Set<Long> likedProjectIds;
+        Set<Long> subscribedProjectIds;
+        if (projects.size() > maxPageSize) {
+            // 전체 목록처럼 대상이 많다면 IN 조건 대신 사용자의 전체 좋아요/구독 목록으로 판별
+            likedProjectIds = projectLikeRepository.findAllProjectIdsLikedBy(viewerId.get());
+            subscribedProjectIds = projectSubscribeRepository.findAllProjectIdsSubscribedBy(viewerId.get());
+        } else {
+            List<Long> projectIds = projects.stream()
+                    .map(ProjectDto::projectId)
+                    .toList();
+            likedProjectIds = projectLikeRepository.findProjectIdsLikedBy(viewerId.get(), projectIds);
+            subscribedProjectIds = projectSubscribeRepository.findProjectIdsSubscribedBy(viewerId.get(), projectIds);
+        }
+
+        return projects.stream()
+                .map(p -> p.withViewerReactions(
+                        likedProjectIds.contains(p.projectId()),
+                        subscribedProjectIds.contains(p.projectId())
+                ))
+                .toList();
+    }
+
+    // 인증된 사용자라면 사용자의 좋아요/구독 목록 버전을 조건부 GET 버전에 반영
+    private ProjectVersion applyViewerVersion(ProjectVersion projectVersion) {
+        return userService.getCurrentAuthorizedUserId()
+                .map(viewerId -> projectVersion.withViewer(
+                        viewerId,
+                        projectLikeRepository.findVersionByUserId(viewerId),
+                        projectSubscribeRepository.findVersionBySubscriberId(viewerId)
+                ))
+                .orElse(projectVersion);
     }
 
     // 프로젝트 소유자와 현재 인가된 사용자가 동일한지 검증
@@ -225,6 +615,16 @@ public class ProjectService {
                 localStorageDefaultProjectThumbnailImageUri;
     }
 
+    // 디폴트 이미지가 아닌 썸네일이라면 리사이즈 이미지 생성을 위한 이벤트 발행
+    private void publishThumbnailChangedEvent(Project project) {
+        if (!project.getThumbnailImageUri().equals(localStorageDefaultProjectThumbnailImageUri)) {
+            eventPublisher.publishEvent(ProjectThumbnailChangedEvent.of(
+                    project.getId(),
+                    project.getThumbnailImageUri()
+            ));
+        }
+    }
+
     // 프로젝트의 썸네일 이미지 업데이트 여부를 판별 후 uri 리턴
     private String updateProjectThumbnailImage(
             MultipartFile requestImage,
@@ -238,12 +638,15 @@ public class ProjectService {
                 (Objects.equals(requestImageName, localStorageDefaultProjectThumbnailImageName)) &&
                 (!savedImageName.equals(localStorageDefaultProjectThumbnailImageName))
         ) {
-            imageFileService.deleteFile(savedImageUri);
+            imageFileDeletionService.deleteAfterCommit(savedImageUri);
             return localStorageDefaultProjectThumbnailImageUri;
 
             // 사용자가 이미지 변경을 요청했을 경우
         } else if (!Objects.equals(requestImageName, savedImageName)) {
-            imageFileService.deleteFile(savedImageUri);
+            // 디폴트 이미지는 모든 프로젝트가 공유하므로 삭제하지 않음
+            if (!savedImageUri.equals(localStorageDefaultProjectThumbnailImageUri)) {
+                imageFileDeletionService.deleteAfterCommit(savedImageUri);
+            }
             return imageFileService.uploadFile(
                     PROJECT_THUMBNAIL_IMAGE,
                     requestImage
@@ -0,0 +1,124 @@
+package site.devtown.spadeworker.domain.project.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.devtown.spadeworker.domain.file.service.ImageVariantGenerator;
+import site.devtown.spadeworker.domain.project.event.ProjectThumbnailChangedEvent;
+import site.devtown.spadeworker.domain.project.repository.ProjectRepository;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+import site.devtown.spadeworker.global.util.ImageUtil;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로젝트 썸네일 리사이즈 이미지 비동기 생성
+ * 썸네일 업로드가 커밋되면 bounded executor 에서 리사이즈 이미지를 생성하고 Project 에 경로를 기록한다.
+ * 대기열이 가득 차거나 생성에 실패하면 원본 이미지만 사용한다.
+ */
+@Slf4j
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Service
+public class ProjectThumbnailVariantService {
+
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ProjectRepository projectRepository;
+    private final ProjectCacheService projectCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public ProjectThumbnailVariantService(
+            ImageVariantGenerator imageVariantGenerator,
+            ProjectRepository projectRepository,
+            ProjectCacheService projectCacheService,
+            PlatformTransactionManager transactionManager,
+            @Value("${image.variant.pool-size}") int poolSize,
+            @Value("${image.variant.queue-capacity}") int queueCapacity
+    ) {
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.projectRepository = projectRepository;
+        this.projectCacheService = projectCacheService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("project-thumbnail-variant-")
+        );
+    }
+
+    /**
+     * 커밋된 썸네일 업로드에 대한 리사이즈 이미지 생성 요청
+     */
+    @TransactionalEventListener
+    public void handleProjectThumbnailChangedEvent(ProjectThumbnailChangedEvent event) {
+        try {
+            executor.execute(() -> generateVariants(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("썸네일 리사이즈 대기열 초과, 원본 이미지만 사용 : projectId={}", event.projectId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // 리사이즈 이미지 생성 후 썸네일이 그대로인 경우에만 경로 기록
+    private void generateVariants(ProjectThumbnailChangedEvent event) {
+        // 원본이 로컬 저장소에 없다면 (오브젝트 스토리지 사용 또는 이미 삭제됨) 생성하지 않음
+        if (Files.notExists(Path.of(event.thumbnailImageUri()))) {
+            return;
+        }
+
+        Map<Integer, String> variantUris;
+        try {
+            variantUris = imageVariantGenerator.generate(event.thumbnailImageUri());
+        } catch (IOException | RuntimeException e) {
+            log.error("썸네일 리사이즈 실패 : projectId={}", event.projectId(), e);
+            return;
+        }
+
+        if (variantUris.isEmpty()) {
+            return;
+        }
+
+        Integer updatedCount = transactionTemplate.execute(status -> projectRepository.updateThumbnailVariantUris(
+                event.projectId(),
+                event.thumbnailImageUri(),
+                ImageUtil.encodeVariantUris(variantUris),
+                LocalDateTime.now()
+        ));
+
+        // 생성 중 썸네일이 다시 변경되었거나 프로젝트가 삭제된 경우
+        if (updatedCount == null || updatedCount == 0) {
+            // 원본이 이미 삭제되었다면 생성한 파일 정리 (원본이 남아 있다면 다른 프로젝트가 공유 중인 파일)
+            if (Files.notExists(Path.of(event.thumbnailImageUri()))) {
+                imageVariantGenerator.deleteVariants(variantUris.values());
+            }
+            return;
+        }
+
+        projectCacheService.evict(event.projectId());
+    }
+}
@@ -4,12 +4,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import site.devtown.spadeworker.domain.file.dto.ImageHeader;
 import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+import site.devtown.spadeworker.global.util.ImageHeaderUtil;
 import site.devtown.spadeworker.global.util.ImageUtil;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 @PropertySource(
         value = "classpath:/upload-resource-rule.yml",
@@ -25,6 +30,18 @@ public class ProjectThumbnailImageValidator
     @Value("${image.project-thumbnail-image.limit-size}")
     private long limitImageSize;
 
+    @Value("${image.project-thumbnail-image.max-width}")
+    private int maxImageWidth;
+
+    @Value("${image.project-thumbnail-image.max-height}")
+    private int maxImageHeight;
+
+    @Value("${image.project-thumbnail-image.max-pixels}")
+    private long maxImagePixels;
+
+    @Value("${image.header-max-scan-bytes}")
+    private long headerMaxScanBytes;
+
     @Override
     public boolean isValid(
             MultipartFile uploadImage,
@@ -54,6 +71,24 @@ public class ProjectThumbnailImageValidator
             return false;
         }
 
+        // 헤더로 실제 이미지 형식 검증 (픽셀 데이터는 디코딩하지 않음)
+        Optional<ImageHeader> imageHeader = readImageHeader(uploadImage);
+        if (imageHeader.isEmpty() || !imageHeader.get().format()
+                .matchesExtension(ImageUtil.getImageExtension(uploadImage.getOriginalFilename()))) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate("이미지 파일의 형식이 확장자와 일치하지 않습니다.")
+                    .addConstraintViolation();
+            return false;
+        }
+
+        // 이미지 해상도 검증
+        if (!validateImageDimension(imageHeader.get())) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate("유효하지 않은 이미지 해상도 입니다.")
+                    .addConstraintViolation();
+            return false;
+        }
+
         return true;
     }
 
@@ -71,4 +106,22 @@ public class ProjectThumbnailImageValidator
     private boolean validateImageSize(long imageSize) {
         return imageSize <= limitImageSize;
     }
+
+    // 업로드된 이미지의 헤더만 읽어 형식과 해상도 조회
+    private Optional<ImageHeader> readImageHeader(MultipartFile uploadImage) {
+        try (InputStream input = uploadImage.getInputStream()) {
+            return ImageHeaderUtil.read(input, headerMaxScanBytes);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 요청된 이미지의 해상도가 유효한 해상도인지 검증 (디코딩 시 메모리를 과도하게 사용하는 이미지 차단)
+    private boolean validateImageDimension(ImageHeader imageHeader) {
+        return imageHeader.width() > 0
+                && imageHeader.height() > 0
+                && imageHeader.width() <= maxImageWidth
+                && imageHeader.height() <= maxImageHeight
+                && imageHeader.pixelCount() <= maxImagePixels;
+    }
 }
@@ -0,0 +1,269 @@
+package site.devtown.spadeworker.domain.project.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.devtown.spadeworker.domain.project.constant.ProjectReactionWriteResult;
+import site.devtown.spadeworker.domain.project.dto.ProjectReactionMutation;
+import site.devtown.spadeworker.domain.project.exception.ProjectReactionQueueFullException;
+import site.devtown.spadeworker.domain.project.repository.ProjectReactionBatchRepository;
+import site.devtown.spadeworker.domain.project.repository.ProjectRepository;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static site.devtown.spadeworker.domain.project.constant.ProjectReactionWriteResult.*;
+
+/**
+ * 프로젝트 좋아요/구독 group commit writer
+ * 요청을 bounded queue 에 쌓고, 단일 writer thread 가 batch-size 개 또는 max-linger 시간만큼 모아
+ * 하나의 트랜잭션에서 JDBC batch 로 반영한다. 요청자는 자신의 batch 가 커밋된 후 완료되는 CompletableFuture 를 받는다.
+ * project.group-commit.enabled 가 false 라면 writer thread 를 띄우지 않는다.
+ */
+@Slf4j
+@PropertySource(
+        value = "classpath:/project-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Component
+public class ProjectReactionGroupCommitWriter {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final ProjectReactionBatchRepository projectReactionBatchRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxLingerNanos;
+    private final BlockingQueue<PendingMutation> queue;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ProjectReactionGroupCommitWriter(
+            ProjectReactionBatchRepository projectReactionBatchRepository,
+            ProjectRepository projectRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${project.group-commit.enabled}") boolean enabled,
+            @Value("${project.group-commit.queue-capacity}") int queueCapacity,
+            @Value("${project.group-commit.batch-size}") int batchSize,
+            @Value("${project.group-commit.max-linger-millis}") long maxLingerMillis
+    ) {
+        this.projectReactionBatchRepository = projectReactionBatchRepository;
+        this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(maxLingerMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        writerThread = new Thread(this::run, "project-reaction-writer");
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+
+        // 대기 중인 요청을 모두 반영한 뒤 종료
+        running = false;
+        writerThread.join();
+    }
+
+    /**
+     * group commit 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청을 queue 에 추가하고, 요청이 포함된 batch 가 커밋되면 완료되는 future 반환
+     * queue 가 가득 찼다면 예외 발생
+     */
+    public CompletableFuture<ProjectReactionWriteResult> submit(ProjectReactionMutation mutation) {
+        PendingMutation pending = new PendingMutation(mutation, new CompletableFuture<>());
+
+        if (!running || !queue.offer(pending)) {
+            throw new ProjectReactionQueueFullException();
+        }
+
+        return pending.result();
+    }
+
+    // writer thread : 요청을 batch 로 모아 반영
+    private void run() {
+        List<PendingMutation> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMutation first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                collect(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                log.warn("프로젝트 좋아요/구독 writer 중단 요청, 대기 중인 요청 반영 후 종료");
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("프로젝트 좋아요/구독 batch 처리 실패", e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // batch-size 에 도달하거나 max-linger 시간이 지날 때까지 요청을 모음
+    private void collect(List<PendingMutation> batch) {
+        long deadline = System.nanoTime() + maxLingerNanos;
+        queue.drainTo(batch, batchSize - batch.size());
+
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            PendingMutation next;
+            try {
+                next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                running = false;
+                return;
+            }
+
+            if (next == null) {
+                return;
+            }
+
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    // batch 를 하나의 트랜잭션으로 반영하고 future 완료
+    private void write(List<PendingMutation> batch) {
+        List<ProjectReactionMutation> mutations = batch.stream()
+                .map(PendingMutation::mutation)
+                .toList();
+
+        List<ProjectReactionWriteResult> results;
+        try {
+            results = transactionTemplate.execute(status -> writeInTransaction(mutations));
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                // 일부 요청의 실패 (동시 등록으로 인한 unique 제약조건 위반 등) 가 batch 전체를 실패시키지 않도록 한 건씩 재시도
+                log.warn("프로젝트 좋아요/구독 batch 반영 실패, 한 건씩 재시도 : {} 건", batch.size(), e);
+                batch.forEach(pending -> write(List.of(pending)));
+                return;
+            }
+
+            PendingMutation pending = batch.get(0);
+            if (e instanceof DataIntegrityViolationException && pending.mutation().register()) {
+                pending.result().complete(UNCHANGED);
+            } else {
+                pending.result().completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+
+    // 같은 종류의 연속된 요청끼리 JDBC batch 로 반영 (요청 순서 유지)
+    private List<ProjectReactionWriteResult> writeInTransaction(List<ProjectReactionMutation> mutations) {
+        ProjectReactionWriteResult[] results = new ProjectReactionWriteResult[mutations.size()];
+        // 취소된 반응의 등록 시각 (트렌딩 점수에서 원래 가중치를 빼기 위해 삭제 전에 조회)
+        LocalDateTime[] canceledReactedAts = new LocalDateTime[mutations.size()];
+
+        int start = 0;
+        while (start < mutations.size()) {
+            ProjectReactionMutation head = mutations.get(start);
+            int end = start + 1;
+            while (end < mutations.size() && mutations.get(end).isSameOperation(head)) {
+                end++;
+            }
+
+            List<ProjectReactionMutation> run = mutations.subList(start, end);
+            if (!head.register()) {
+                LocalDateTime[] createdAts = projectReactionBatchRepository.findCreatedAts(head.reactionType(), run);
+                System.arraycopy(createdAts, 0, canceledReactedAts, start, createdAts.length);
+            }
+            int[] affectedRows = head.register() ?
+                    projectReactionBatchRepository.insertAllIfAbsent(head.reactionType(), run) :
+                    projectReactionBatchRepository.deleteAll(head.reactionType(), run);
+
+            for (int i = 0; i < run.size(); i++) {
+                results[start + i] = (affectedRows[i] > 0) ? APPLIED : UNCHANGED;
+            }
+            start = end;
+        }
+
+        // 반영되지 않은 요청은 프로젝트 존재 여부로 원인 구분
+        Set<Long> unchangedProjectIds = IntStream.range(0, results.length)
+                .filter(i -> results[i] == UNCHANGED)
+                .mapToObj(i -> mutations.get(i).projectId())
+                .collect(Collectors.toSet());
+
+        if (!unchangedProjectIds.isEmpty()) {
+            Set<Long> existingProjectIds = projectRepository.findExistingIdsByIdIn(unchangedProjectIds);
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == UNCHANGED && !existingProjectIds.contains(mutations.get(i).projectId())) {
+                    results[i] = PROJECT_NOT_FOUND;
+                }
+            }
+        }
+
+        // 반영된 요청의 이벤트는 batch 트랜잭션이 커밋된 후 처리되도록 트랜잭션 안에서 발행
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == APPLIED) {
+                eventPublisher.publishEvent(mutations.get(i).toEvent(canceledReactedAts[i]));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private record PendingMutation(
+            ProjectReactionMutation mutation,
+            CompletableFuture<ProjectReactionWriteResult> result
+    ) {
+    }
+}
@@ -3,8 +3,10 @@ package site.devtown.spadeworker.domain.user.model.entity;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import site.devtown.spadeworker.domain.user.model.constant.UserRoleType;
 import site.devtown.spadeworker.global.config.audit.BaseTimeEntity;
+import site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator;
 
 import javax.persistence.*;
 
@@ -13,7 +15,8 @@ import javax.persistence.*;
 @Entity
 public class Role extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TsidIdentifierGenerator.NAME)
+    @GenericGenerator(name = TsidIdentifierGenerator.NAME, strategy = TsidIdentifierGenerator.STRATEGY)
     private Long id;
 
     @Enumerated(EnumType.STRING)
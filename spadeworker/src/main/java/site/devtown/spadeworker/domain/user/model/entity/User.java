@@ -3,9 +3,11 @@ package site.devtown.spadeworker.domain.user.model.entity;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import site.devtown.spadeworker.domain.user.model.constant.AuthProviderType;
 import site.devtown.spadeworker.domain.user.model.constant.UserStatus;
 import site.devtown.spadeworker.global.config.audit.BaseTimeEntity;
+import site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator;
 
 import javax.persistence.*;
 
@@ -16,7 +18,8 @@ import static site.devtown.spadeworker.domain.user.model.constant.UserStatus.*;
 @Entity
 public class User extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TsidIdentifierGenerator.NAME)
+    @GenericGenerator(name = TsidIdentifierGenerator.NAME, strategy = TsidIdentifierGenerator.STRATEGY)
     private Long id;
 
     @Column(length = 100, nullable = false, unique = true, updatable = false)
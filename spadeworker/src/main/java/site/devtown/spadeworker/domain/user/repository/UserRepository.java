@@ -1,11 +1,25 @@
 package site.devtown.spadeworker.domain.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.devtown.spadeworker.domain.user.model.entity.User;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByPersonalId(String personalId);
+
+    /**
+     * 주어진 경로 중 사용자 프로필 이미지로 참조 중인 경로 조회
+     */
+    @Query("""
+            select u.profileImageUri
+            from User u
+            where u.profileImageUri in :imageUris
+            """)
+    Set<String> findReferencedProfileImageUris(@Param("imageUris") Collection<String> imageUris);
 }
@@ -1,12 +1,16 @@
 package site.devtown.spadeworker.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import site.devtown.spadeworker.domain.auth.model.UserPrincipal;
 import site.devtown.spadeworker.domain.user.model.entity.User;
 import site.devtown.spadeworker.domain.user.repository.UserRepository;
 import site.devtown.spadeworker.global.exception.ResourceNotFoundException;
 
+import java.util.Optional;
+
 import static site.devtown.spadeworker.domain.user.exception.UserExceptionCode.USER_NOT_FOUND;
 
 @RequiredArgsConstructor
@@ -27,4 +31,19 @@ public class UserService {
         return userRepository.findByPersonalId(authenticationUserPersonalId)
                 .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND));
     }
+
+    /**
+     * 현재 인증된 사용자의 id 를 DB 조회 없이 반환 (비로그인 요청이라면 empty)
+     */
+    public Optional<Long> getCurrentAuthorizedUserId() {
+        Authentication authentication = SecurityContextHolder
+                .getContext()
+                .getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return Optional.ofNullable(userPrincipal.userId());
+        }
+
+        return Optional.empty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package site.devtown.spadeworker.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import site.devtown.spadeworker.domain.project.dto.ProjectDto;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import java.time.Duration;
+
+@PropertySource(
+        value = "classpath:/project-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Configuration
+public class CacheConfig {
+
+    @Value("${project.cache.maximum-size}")
+    private long projectCacheMaximumSize;
+    @Value("${project.cache.expire-after-write-seconds}")
+    private long projectCacheExpireAfterWriteSeconds;
+
+    /**
+     * 프로젝트 단건 조회 캐시
+     * Caffeine(W-TinyLFU) 으로 크기를 제한하고, hit/miss/eviction 통계는 cache.* 메트릭으로 노출
+     */
+    @Bean
+    public Cache<Long, ProjectDto> projectDtoCache(MeterRegistry meterRegistry) {
+        Cache<Long, ProjectDto> cache = Caffeine.newBuilder()
+                .maximumSize(projectCacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(projectCacheExpireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "project");
+    }
+}
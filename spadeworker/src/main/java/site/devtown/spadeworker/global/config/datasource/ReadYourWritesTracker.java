@@ -0,0 +1,47 @@
+package site.devtown.spadeworker.global.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 사용자를 일정 시간 동안 기록
+ * 기록된 사용자의 읽기 전용 트랜잭션은 replica 복제 지연과 무관하게 자신의 쓰기를 읽도록 primary 로 보낸다.
+ * window 가 0 이면 사용하지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.recentWriters = (windowMillis > 0) ?
+                Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofMillis(windowMillis))
+                        .build() :
+                null;
+    }
+
+    /**
+     * 사용 여부
+     */
+    public boolean isEnabled() {
+        return recentWriters != null;
+    }
+
+    /**
+     * 사용자의 쓰기 커밋 기록
+     */
+    public void markWritten(String userName) {
+        if (isEnabled()) {
+            recentWriters.put(userName, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 사용자가 window 안에 쓰기를 커밋했는지 여부
+     */
+    public boolean isWithinWindow(String userName) {
+        return isEnabled() && recentWriters.getIfPresent(userName) != null;
+    }
+}
@@ -0,0 +1,63 @@
+package site.devtown.spadeworker.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * replication-local profile 의 replica H2 DB 를 primary 의 snapshot 으로 초기화
+ * 스키마는 Hibernate 가 primary 에만 만들므로, 기동 직후 primary 의 스키마와 데이터를 SCRIPT 로 내보내 각 replica 에서 실행한다.
+ * 이후의 변경은 복제되지 않으므로 read-your-writes window 가 지난 조회가 replica 로 라우팅되면 변경 전 데이터가 보인다.
+ */
+@Slf4j
+@Profile("replication-local")
+@RequiredArgsConstructor
+@Component
+public class ReplicaSnapshotSeeder {
+
+    private final ReplicationRoutingDataSource replicationRoutingDataSource;
+    private final AtomicBoolean seeded = new AtomicBoolean(false);
+
+    /**
+     * 컨텍스트 초기화 직후 (ApplicationReadyEvent 의 읽기 작업보다 먼저) replica 초기화
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void seed() throws SQLException, IOException {
+        if (!seeded.compareAndSet(false, true)) {
+            return;
+        }
+
+        Path script = Files.createTempFile("replica-snapshot-", ".sql");
+        try {
+            execute(replicationRoutingDataSource.getPrimary(), "SCRIPT TO '" + script + "'");
+            for (HikariDataSource replica : replicationRoutingDataSource.getReplicas()) {
+                execute(replica, "RUNSCRIPT FROM '" + script + "'");
+                log.info("replica 초기화 완료 : {}", replica.getPoolName());
+            }
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    private void execute(
+            HikariDataSource dataSource,
+            String sql
+    ) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package site.devtown.spadeworker.global.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * primary / replica DataSource 라우팅 설정
+ * datasource.replication.enabled 가 true 일 때만 적용되며, 그 외에는 spring.datasource 단일 DataSource 를 사용한다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "datasource.replication", name = "enabled", havingValue = "true")
+@Configuration
+public class ReplicationDataSourceConfig {
+
+    @Value("${datasource.replication.read-your-writes-millis:0}")
+    private long readYourWritesMillis;
+    @Value("${datasource.replication.health-check-interval-millis:5000}")
+    private long healthCheckIntervalMillis;
+
+    private ScheduledExecutorService healthCheckExecutor;
+
+    /**
+     * primary 와 replica 커넥션 풀을 묶은 라우팅 DataSource
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicationRoutingDataSource replicationRoutingDataSource(Environment environment) {
+        Binder binder = Binder.get(environment);
+
+        HikariConfig primaryConfig = binder.bind("datasource.replication.primary", HikariConfig.class)
+                .orElseThrow(() -> new IllegalStateException("datasource.replication.primary 설정이 없습니다."));
+        primaryConfig.setPoolName("primary");
+        applyCommonDataSourceProperties(binder, primaryConfig);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<HikariConfig> replicaConfigs = binder.bind("datasource.replication.replicas", Bindable.listOf(HikariConfig.class))
+                .orElseGet(List::of);
+        for (int i = 0; i < replicaConfigs.size(); i++) {
+            HikariConfig replicaConfig = replicaConfigs.get(i);
+            replicaConfig.setPoolName("replica-" + i);
+            replicaConfig.setReadOnly(true);
+            // replica 장애가 애플리케이션 기동을 막지 않도록 커넥션은 사용 시점에 연결
+            replicaConfig.setInitializationFailTimeout(-1);
+            applyCommonDataSourceProperties(binder, replicaConfig);
+            replicas.add(new HikariDataSource(replicaConfig));
+        }
+
+        ReplicationRoutingDataSource replicationRoutingDataSource = new ReplicationRoutingDataSource(
+                new HikariDataSource(primaryConfig),
+                replicas,
+                new ReadYourWritesTracker(readYourWritesMillis)
+        );
+        startReplicaHealthCheck(replicationRoutingDataSource);
+        return replicationRoutingDataSource;
+    }
+
+    /**
+     * JPA 가 사용하는 DataSource
+     * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 얻어 readOnly 여부로 라우팅되도록 지연 프록시로 감싼다.
+     */
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+        }
+    }
+
+    // spring.datasource.hikari.data-source-properties (MySQL useCursorFetch 등) 를 커넥션 풀에도 적용 (풀별 설정이 우선)
+    private void applyCommonDataSourceProperties(
+            Binder binder,
+            HikariConfig config
+    ) {
+        binder.bind("spring.datasource.hikari.data-source-properties", Bindable.mapOf(String.class, String.class))
+                .ifBound(properties -> properties.forEach((key, value) -> {
+                    if (!config.getDataSourceProperties().containsKey(key)) {
+                        config.addDataSourceProperty(key, value);
+                    }
+                }));
+    }
+
+    // replica 상태 주기적 검증
+    // 커넥션 대기가 공용 스케줄러 스레드를 막지 않도록 전용 스레드에서 실행 (replica 별 검증 스레드 + 주기 실행 스레드)
+    private void startReplicaHealthCheck(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-health-check-");
+        threadFactory.setDaemon(true);
+        healthCheckExecutor = Executors.newScheduledThreadPool(
+                replicationRoutingDataSource.getReplicaCount() + 1,
+                threadFactory
+        );
+
+        healthCheckExecutor.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        replicationRoutingDataSource.checkReplicaHealth(healthCheckExecutor);
+                    } catch (RuntimeException e) {
+                        log.error("replica 상태 검증 실패", e);
+                    }
+                },
+                healthCheckIntervalMillis,
+                healthCheckIntervalMillis,
+                TimeUnit.MILLISECONDS
+        );
+    }
+}
@@ -0,0 +1,183 @@
+package site.devtown.spadeworker.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 정상 상태의 replica 로, 그 외는 primary 로 보내는 DataSource
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ * 정상 replica 가 없거나 read-your-writes window 안의 사용자라면 primary 로 보낸다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource
+        extends AbstractRoutingDataSource
+        implements Closeable {
+
+    private static final String PRIMARY_KEY = "primary";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger replicaCursor = new AtomicInteger();
+
+    private volatile List<String> healthyReplicaKeys;
+
+    public ReplicationRoutingDataSource(
+            HikariDataSource primary,
+            List<HikariDataSource> replicas,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        this.primary = primary;
+        this.replicas = new HashMap<>();
+        for (HikariDataSource replica : replicas) {
+            this.replicas.put(replica.getPoolName(), replica);
+        }
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.healthyReplicaKeys = this.replicas.keySet().stream().sorted().toList();
+
+        Map<Object, Object> targetDataSources = new HashMap<>(this.replicas);
+        targetDataSources.put(PRIMARY_KEY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * replica 별로 커넥션 검증 후 정상 replica 목록 갱신
+     * 응답하지 않는 replica 가 다른 replica 의 검증을 늦추지 않도록 주어진 executor 에서 replica 별로 병렬 검증한다.
+     */
+    public void checkReplicaHealth(Executor executor) {
+        List<CompletableFuture<String>> checks = replicas.keySet()
+                .stream()
+                .map(key -> CompletableFuture.supplyAsync(() -> isHealthy(key) ? key : null, executor))
+                .toList();
+
+        List<String> healthy = checks.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+
+        if (!healthy.equals(healthyReplicaKeys)) {
+            log.info("정상 replica 목록 변경 : {} -> {}", healthyReplicaKeys, healthy);
+        }
+        healthyReplicaKeys = healthy;
+    }
+
+    /**
+     * 검증할 replica 수
+     */
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * primary 커넥션 풀
+     */
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * replica 커넥션 풀 목록
+     */
+    public Collection<HikariDataSource> getReplicas() {
+        return replicas.values();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userName = getCurrentUserName();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerReadYourWrites(userName);
+            return PRIMARY_KEY;
+        }
+
+        if (userName != null && readYourWritesTracker.isWithinWindow(userName)) {
+            return PRIMARY_KEY;
+        }
+
+        List<String> healthy = healthyReplicaKeys;
+        if (healthy.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+
+        return healthy.get(Math.floorMod(replicaCursor.getAndIncrement(), healthy.size()));
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    // replica 커넥션 검증 (커넥션을 얻지 못하면 pool 의 connectionTimeout 만큼 대기)
+    private boolean isHealthy(String key) {
+        try (Connection connection = replicas.get(key).getConnection()) {
+            if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return true;
+            }
+            log.warn("replica 커넥션 검증 실패 : {}", key);
+        } catch (SQLException | RuntimeException e) {
+            log.warn("replica 연결 실패 : {}", key, e);
+        }
+        return false;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 사용자의 read-your-writes window 시작 (트랜잭션당 한 번만 등록)
+    private void registerReadYourWrites(String userName) {
+        if (userName == null
+                || !readYourWritesTracker.isEnabled()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, userName);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWritten(userName);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReplicationRoutingDataSource.this);
+            }
+        });
+    }
+
+    // 현재 인증된 사용자 이름 (비로그인 요청이라면 null)
+    private String getCurrentUserName() {
+        Authentication authentication = SecurityContextHolder
+                .getContext()
+                .getAuthentication();
+
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        return authentication.getName();
+    }
+}
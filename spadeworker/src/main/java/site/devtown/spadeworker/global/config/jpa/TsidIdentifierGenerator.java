@@ -0,0 +1,41 @@
+package site.devtown.spadeworker.global.config.jpa;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+import site.devtown.spadeworker.global.util.TsidUtil;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * TSID 를 발급하는 Hibernate id 생성기
+ * IDENTITY 와 달리 insert 전에 id 가 정해지므로 JDBC insert batch 를 사용할 수 있다.
+ */
+public class TsidIdentifierGenerator
+        implements IdentifierGenerator {
+
+    public static final String NAME = "tsid";
+    public static final String STRATEGY = "site.devtown.spadeworker.global.config.jpa.TsidIdentifierGenerator";
+
+    /**
+     * SessionFactory 생성 시 노드 번호를 확인해 SPADEWORKER_NODE_ID 가 없다면 기동을 중단
+     */
+    @Override
+    public void configure(
+            Type type,
+            Properties params,
+            ServiceRegistry serviceRegistry
+    ) {
+        TsidUtil.getNode();
+    }
+
+    @Override
+    public Serializable generate(
+            SharedSessionContractImplementor session,
+            Object object
+    ) {
+        return TsidUtil.nextId();
+    }
+}
@@ -0,0 +1,72 @@
+package site.devtown.spadeworker.global.config.multipart;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Configuration
+public class MultipartConfig {
+
+    // 저장소로 rename 만으로 옮길 수 있도록 저장소 아래에 staging 디렉토리를 둠
+    private static final String STAGING_DIRECTORY_NAME = ".upload-staging";
+    // 프로젝트 생성/수정 요청의 썸네일 이미지 part 이름
+    private static final String PROJECT_THUMBNAIL_FIELD_NAME = "thumbnailImage";
+
+    @Value("${image.upload.streaming}")
+    private boolean streamingUpload;
+    @Value("${image.local-image-storage-location}")
+    private String localFileStorageLocation;
+    @Value("${image.allow-extensions}")
+    private List<String> allowImageExtensions;
+    @Value("${image.project-thumbnail-image.limit-size}")
+    private long projectThumbnailLimitSize;
+    @Value("${image.upload.max-field-size}")
+    private int maxFieldSize;
+    @Value("${image.upload.max-parts}")
+    private int maxParts;
+    @Value("${spring.servlet.multipart.resolve-lazily:false}")
+    private boolean resolveLazily;
+
+    /**
+     * multipart 요청 resolver
+     * image.upload.streaming 이 true 라면 파일 part 를 버퍼링 없이 staging 디렉토리로 바로 기록
+     * 요청/파일 크기 제한은 기본 resolver 와 같은 spring.servlet.multipart 설정을 따르며,
+     * 썸네일 part 는 스트리밍 중에 image.project-thumbnail-image.limit-size 를 넘으면 바로 중단한다.
+     */
+    @Bean
+    public MultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        StandardServletMultipartResolver standardResolver = new StandardServletMultipartResolver();
+        standardResolver.setResolveLazily(resolveLazily);
+
+        return new StreamingMultipartResolver(
+                standardResolver,
+                streamingUpload,
+                Path.of(localFileStorageLocation, STAGING_DIRECTORY_NAME),
+                allowImageExtensions,
+                toBytes(multipartProperties.getMaxFileSize()),
+                Map.of(PROJECT_THUMBNAIL_FIELD_NAME, projectThumbnailLimitSize),
+                toBytes(multipartProperties.getMaxRequestSize()),
+                maxFieldSize,
+                maxParts
+        );
+    }
+
+    // 기본 resolver 와 같이 설정되지 않은 크기는 제한 없음 (-1)
+    private long toBytes(DataSize size) {
+        return (size != null) ? size.toBytes() : -1;
+    }
+}
@@ -0,0 +1,111 @@
+package site.devtown.spadeworker.global.config.multipart;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 요청 스트림에서 저장소와 같은 파일 시스템의 staging 디렉토리로 바로 기록된 업로드 파일
+ * transferTo 는 복사 없이 이름만 바꾸며, 기록 중 계산한 SHA-256 을 함께 제공한다.
+ */
+public class StagedMultipartFile
+        implements MultipartFile {
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+    private final Path stagedPath;
+    private final String sha256;
+    private volatile boolean moved;
+
+    public StagedMultipartFile(
+            String name,
+            String originalFilename,
+            String contentType,
+            long size,
+            Path stagedPath,
+            String sha256
+    ) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.stagedPath = stagedPath;
+        this.sha256 = sha256;
+    }
+
+    /**
+     * 기록 중 계산한 SHA-256 (hex, 저장되지 않은 파일이라면 null)
+     */
+    public String getSha256() {
+        return sha256;
+    }
+
+    /**
+     * staging 파일을 대상 경로로 이동 (같은 파일 시스템이라면 rename)
+     */
+    public void moveTo(Path destination) throws IOException {
+        try {
+            Files.move(stagedPath, destination, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(stagedPath, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+        moved = true;
+    }
+
+    /**
+     * 이동되지 않은 staging 파일 삭제
+     */
+    public void cleanup() throws IOException {
+        if (!moved && stagedPath != null) {
+            Files.deleteIfExists(stagedPath);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return (stagedPath == null) ? new byte[0] : Files.readAllBytes(stagedPath);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return (stagedPath == null) ? InputStream.nullInputStream() : Files.newInputStream(stagedPath);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        moveTo(dest.toPath());
+    }
+}
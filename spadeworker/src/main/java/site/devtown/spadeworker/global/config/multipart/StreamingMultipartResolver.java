@@ -0,0 +1,256 @@
+package site.devtown.spadeworker.global.config.multipart;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.DefaultMultipartHttpServletRequest;
+import site.devtown.spadeworker.global.util.ImageUtil;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * multipart 요청을 버퍼링 없이 순차적으로 파싱하는 MultipartResolver
+ * 파일 part 는 저장소와 같은 파일 시스템의 staging 디렉토리에 NIO 채널로 바로 기록하며,
+ * 확장자가 허용되지 않으면 기록하지 않고, 요청/파일/필드 크기나 part 수 제한을 넘으면 즉시 중단한다.
+ * 필드별 파일 크기 제한(예: 썸네일)이 있다면 해당 part 를 기록하는 도중에 제한을 넘는 즉시 중단한다.
+ * 스트리밍을 사용하지 않는다면 기본 resolver 에 위임한다.
+ */
+@Slf4j
+public class StreamingMultipartResolver
+        implements MultipartResolver {
+
+    private static final long TRANSFER_CHUNK_SIZE = 64 * 1024;
+
+    private final MultipartResolver delegate;
+    private final boolean streaming;
+    private final Path stagingDirectory;
+    private final List<String> allowExtensions;
+    private final long maxFileSize;
+    private final Map<String, Long> fieldFileSizeLimits;
+    private final long maxRequestSize;
+    private final int maxFieldSize;
+    private final int maxParts;
+
+    public StreamingMultipartResolver(
+            MultipartResolver delegate,
+            boolean streaming,
+            Path stagingDirectory,
+            List<String> allowExtensions,
+            long maxFileSize,
+            Map<String, Long> fieldFileSizeLimits,
+            long maxRequestSize,
+            int maxFieldSize,
+            int maxParts
+    ) {
+        this.delegate = delegate;
+        this.streaming = streaming;
+        this.stagingDirectory = stagingDirectory;
+        this.allowExtensions = allowExtensions;
+        this.maxFileSize = maxFileSize;
+        this.fieldFileSizeLimits = fieldFileSizeLimits;
+        this.maxRequestSize = maxRequestSize;
+        this.maxFieldSize = maxFieldSize;
+        this.maxParts = maxParts;
+    }
+
+    @Override
+    public boolean isMultipart(HttpServletRequest request) {
+        return streaming ? ServletFileUpload.isMultipartContent(request) : delegate.isMultipart(request);
+    }
+
+    @Override
+    public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) throws MultipartException {
+        if (!streaming) {
+            return delegate.resolveMultipart(request);
+        }
+
+        MultiValueMap<String, MultipartFile> files = new LinkedMultiValueMap<>();
+        Map<String, List<String>> parameters = new HashMap<>();
+        Map<String, String> contentTypes = new HashMap<>();
+
+        try {
+            Files.createDirectories(stagingDirectory);
+
+            // 요청 전체와 파일 part 의 크기 제한은 commons-fileupload 가 읽는 도중 검사
+            ServletFileUpload upload = new ServletFileUpload();
+            upload.setSizeMax(maxRequestSize);
+            upload.setFileSizeMax(maxFileSize);
+
+            FileItemIterator iterator = upload.getItemIterator(request);
+            int partCount = 0;
+            while (iterator.hasNext()) {
+                FileItemStream item = iterator.next();
+
+                if (++partCount > maxParts) {
+                    throw new MaxUploadSizeExceededException(
+                            maxRequestSize,
+                            new FileUploadException("multipart part 수 제한 초과 : " + maxParts)
+                    );
+                }
+
+                try (InputStream input = item.openStream()) {
+                    if (item.isFormField()) {
+                        parameters.computeIfAbsent(item.getFieldName(), name -> new ArrayList<>())
+                                .add(readField(input));
+                        continue;
+                    }
+
+                    files.add(item.getFieldName(), stage(item, input));
+                    contentTypes.put(item.getFieldName(), item.getContentType());
+                }
+            }
+        } catch (IOException | FileUploadException | RuntimeException e) {
+            cleanupFiles(files);
+            if (e instanceof MultipartException multipartException) {
+                throw multipartException;
+            }
+
+            FileUploadBase.SizeException sizeException = findSizeException(e);
+            if (sizeException != null) {
+                throw new MaxUploadSizeExceededException(sizeException.getPermittedSize(), e);
+            }
+            throw new MultipartException("multipart 요청 스트리밍 파싱 실패", e);
+        }
+
+        Map<String, String[]> parameterValues = new HashMap<>();
+        parameters.forEach((name, values) -> parameterValues.put(name, values.toArray(String[]::new)));
+
+        return new DefaultMultipartHttpServletRequest(request, files, parameterValues, contentTypes);
+    }
+
+    @Override
+    public void cleanupMultipart(MultipartHttpServletRequest request) {
+        if (!streaming) {
+            delegate.cleanupMultipart(request);
+            return;
+        }
+
+        cleanupFiles(request.getMultiFileMap());
+    }
+
+    // 파일 part 를 staging 파일로 기록하며 SHA-256 계산 (허용되지 않는 확장자는 기록하지 않음)
+    private StagedMultipartFile stage(
+            FileItemStream item,
+            InputStream input
+    ) throws IOException {
+        String originalFilename = item.getName();
+
+        if (originalFilename == null || originalFilename.isEmpty()
+                || !allowExtensions.contains(ImageUtil.getImageExtension(originalFilename))) {
+            // 확장자 검증은 요청 DTO 의 validator 가 처리하도록 내용 없이 전달
+            input.transferTo(OutputStream.nullOutputStream());
+            return new StagedMultipartFile(item.getFieldName(), originalFilename, item.getContentType(), 0, null, null);
+        }
+
+        MessageDigest digest = newSha256Digest();
+        Path stagedPath = Files.createTempFile(stagingDirectory, "upload-", ".part");
+        long size = 0;
+        Long fieldLimit = fieldFileSizeLimits.get(item.getFieldName());
+
+        // 크기 제한을 넘으면 item stream 이 예외를 던지므로 나머지를 읽지 않고 즉시 중단
+        try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(input, digest));
+             FileChannel target = FileChannel.open(stagedPath, StandardOpenOption.WRITE)) {
+            long transferred;
+            while ((transferred = target.transferFrom(source, size, nextChunkSize(size, fieldLimit))) > 0) {
+                size += transferred;
+                // 필드별 제한은 제한보다 1 byte 더 읽히는 즉시 중단
+                if (fieldLimit != null && size > fieldLimit) {
+                    throw new MaxUploadSizeExceededException(fieldLimit);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagedPath);
+            throw e;
+        }
+
+        return new StagedMultipartFile(
+                item.getFieldName(),
+                originalFilename,
+                item.getContentType(),
+                size,
+                stagedPath,
+                HexFormat.of().formatHex(digest.digest())
+        );
+    }
+
+    // 필드별 제한이 있다면 제한을 1 byte 넘는 지점까지만 읽도록 chunk 크기 조정
+    private long nextChunkSize(
+            long size,
+            Long fieldLimit
+    ) {
+        return (fieldLimit == null) ?
+                TRANSFER_CHUNK_SIZE :
+                Math.min(TRANSFER_CHUNK_SIZE, fieldLimit + 1 - size);
+    }
+
+    // 필드 값을 크기 제한까지만 읽음
+    private String readField(InputStream input) throws IOException {
+        byte[] value = input.readNBytes(maxFieldSize + 1);
+        if (value.length > maxFieldSize) {
+            throw new MaxUploadSizeExceededException(maxFieldSize);
+        }
+
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    // commons-fileupload 는 읽는 도중의 크기 제한 초과를 IOException 으로 감싸서 던지므로 원인까지 탐색
+    private FileUploadBase.SizeException findSizeException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FileUploadBase.SizeException sizeException) {
+                return sizeException;
+            }
+        }
+        return null;
+    }
+
+    private void cleanupFiles(MultiValueMap<String, MultipartFile> files) {
+        files.values()
+                .stream()
+                .flatMap(List::stream)
+                .filter(StagedMultipartFile.class::isInstance)
+                .map(StagedMultipartFile.class::cast)
+                .forEach(file -> {
+                    try {
+                        file.cleanup();
+                    } catch (IOException e) {
+                        log.warn("staging 파일 삭제 실패 : {}", file.getOriginalFilename(), e);
+                    }
+                });
+    }
+
+    private MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -56,6 +56,8 @@ public class SecurityConfig {
                 .antMatchers(POST, "/api/auth/refresh").permitAll()
                 // Project API
                 .antMatchers(GET, "/api/projects/**").permitAll()
+                // Image API
+                .antMatchers(GET, "/api/images/**").permitAll()
                 // 나머지는 모두 인증 필요
                 .anyRequest().authenticated();
 
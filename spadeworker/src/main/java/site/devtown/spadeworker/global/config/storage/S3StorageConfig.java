@@ -0,0 +1,109 @@
+package site.devtown.spadeworker.global.config.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import site.devtown.spadeworker.global.factory.YamlPropertySourceFactory;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * S3 호환 오브젝트 스토리지 클라이언트 설정
+ * image.storage.backend 가 s3 일 때만 적용되며, endpoint 를 지정하면 로컬 S3 호환 서버에도 연결할 수 있다.
+ */
+@ConditionalOnProperty(prefix = "image.storage", name = "backend", havingValue = "s3")
+@PropertySource(
+        value = "classpath:/upload-resource-rule.yml",
+        factory = YamlPropertySourceFactory.class
+)
+@Configuration
+public class S3StorageConfig {
+
+    @Value("${image.s3.region}")
+    private String region;
+    @Value("${image.s3.endpoint}")
+    private String endpoint;
+    @Value("${image.s3.path-style-access}")
+    private boolean pathStyleAccess;
+    @Value("${image.s3.access-key}")
+    private String accessKey;
+    @Value("${image.s3.secret-key}")
+    private String secretKey;
+    @Value("${image.s3.max-connections}")
+    private int maxConnections;
+    @Value("${image.s3.connection-timeout-millis}")
+    private long connectionTimeoutMillis;
+    @Value("${image.s3.socket-timeout-millis}")
+    private long socketTimeoutMillis;
+
+    /**
+     * 요청 간에 커넥션을 재사용하는 HTTP 커넥션 풀
+     */
+    @Bean(destroyMethod = "close")
+    public SdkHttpClient s3HttpClient() {
+        return ApacheHttpClient.builder()
+                .maxConnections(maxConnections)
+                .connectionTimeout(Duration.ofMillis(connectionTimeoutMillis))
+                .socketTimeout(Duration.ofMillis(socketTimeoutMillis))
+                .tcpKeepAlive(true)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(SdkHttpClient s3HttpClient) {
+        var builder = S3Client.builder()
+                .httpClient(s3HttpClient)
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .serviceConfiguration(serviceConfiguration());
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 이미지 조회용 pre-signed URL 생성기 (서명만 하므로 네트워크 요청 없음)
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        var builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .serviceConfiguration(serviceConfiguration());
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+
+        return builder.build();
+    }
+
+    // access key 가 지정되지 않았다면 환경 변수 / 인스턴스 프로필 등 기본 자격 증명 사용
+    private AwsCredentialsProvider credentialsProvider() {
+        return accessKey.isBlank() ?
+                DefaultCredentialsProvider.create() :
+                StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+
+    private S3Configuration serviceConfiguration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
+    }
+}
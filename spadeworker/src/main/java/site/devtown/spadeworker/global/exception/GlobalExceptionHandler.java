@@ -7,6 +7,7 @@ import org.springframework.validation.BindException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import static site.devtown.spadeworker.global.exception.GlobalExceptionCode.*;
 
@@ -72,6 +73,21 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * 업로드 파일 크기 초과 예외 핸들링
+     * Built-In Exception
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    protected ResponseEntity<ExceptionResponse> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException e
+    ) {
+        log.error("handle MaxUploadSizeExceededException");
+        return new ResponseEntity<>(
+                ExceptionResponse.of(UPLOAD_SIZE_EXCEEDED),
+                HttpStatus.valueOf(UPLOAD_SIZE_EXCEEDED.getHttpStatus().value())
+        );
+    }
+
     /**
      * 최상위 예외 핸들링
      * Built-In Exception
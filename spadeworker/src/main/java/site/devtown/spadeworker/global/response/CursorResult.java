@@ -0,0 +1,19 @@
+package site.devtown.spadeworker.global.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 결과값과 다음 페이지 커서를 반환하는 응답
+ */
+@Getter
+public class CursorResult<T> extends ListResult<T> {
+
+    private String nextCursor;
+
+    public CursorResult(Integer status, String message, List<T> data, String nextCursor) {
+        super(status, message, data);
+        this.nextCursor = nextCursor;
+    }
+}
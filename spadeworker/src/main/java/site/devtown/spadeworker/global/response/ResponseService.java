@@ -20,6 +20,13 @@ public class ResponseService {
         return new ListResult<>(status, message, data);
     }
 
+    /**
+     * 커서 기반 다중건 성공 결과를 처리하는 메소드
+     */
+    public <T> CursorResult<T> getCursorResult(Integer status, String message, List<T> data, String nextCursor) {
+        return new CursorResult<>(status, message, data, nextCursor);
+    }
+
     /**
      * 성공 결과만 처리하는 메소드
      */
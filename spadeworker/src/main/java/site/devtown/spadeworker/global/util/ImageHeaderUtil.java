@@ -0,0 +1,134 @@
+package site.devtown.spadeworker.global.util;
+
+import site.devtown.spadeworker.domain.file.constant.ImageFormat;
+import site.devtown.spadeworker.domain.file.dto.ImageHeader;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 픽셀 데이터를 디코딩하지 않고 헤더만 읽어 이미지 형식과 해상도를 확인
+ * PNG 는 시그니처와 IHDR (24 bytes), JPEG 는 SOF 세그먼트까지의 마커만 읽고 그 외 세그먼트는 skip 한다.
+ */
+public class ImageHeaderUtil {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int PNG_IHDR = 0x49484452;
+    private static final int BUFFER_SIZE = 512;
+
+    /**
+     * 이미지 헤더 조회 (지원하지 않는 형식이거나 maxScanBytes 안에서 해상도를 찾지 못하면 empty)
+     */
+    public static Optional<ImageHeader> read(
+            InputStream input,
+            long maxScanBytes
+    ) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+
+        try {
+            int first = data.readUnsignedByte();
+            int second = data.readUnsignedByte();
+
+            if (first == 0xFF && second == 0xD8) {
+                return readJpeg(data, maxScanBytes - 2);
+            }
+            if (first == (PNG_SIGNATURE[0] & 0xFF) && second == PNG_SIGNATURE[1]) {
+                return readPng(data);
+            }
+
+            return Optional.empty();
+        } catch (EOFException e) {
+            // 헤더가 잘린 파일
+            return Optional.empty();
+        }
+    }
+
+    // 시그니처 나머지 6 bytes 와 첫 chunk (IHDR) 의 너비/높이
+    private static Optional<ImageHeader> readPng(DataInputStream data) throws IOException {
+        byte[] signature = new byte[PNG_SIGNATURE.length - 2];
+        data.readFully(signature);
+        if (!Arrays.equals(signature, 0, signature.length, PNG_SIGNATURE, 2, PNG_SIGNATURE.length)) {
+            return Optional.empty();
+        }
+
+        data.readInt();
+        if (data.readInt() != PNG_IHDR) {
+            return Optional.empty();
+        }
+
+        return Optional.of(ImageHeader.of(ImageFormat.PNG, data.readInt(), data.readInt()));
+    }
+
+    // SOF 마커를 만날 때까지 세그먼트 길이만큼 skip (EXIF 등 큰 세그먼트도 버퍼에 읽지 않음)
+    private static Optional<ImageHeader> readJpeg(
+            DataInputStream data,
+            long maxScanBytes
+    ) throws IOException {
+        long scannedBytes = 0;
+
+        while (scannedBytes < maxScanBytes) {
+            if (data.readUnsignedByte() != 0xFF) {
+                return Optional.empty();
+            }
+
+            int marker = data.readUnsignedByte();
+            scannedBytes += 2;
+            // 채움 바이트
+            while (marker == 0xFF) {
+                marker = data.readUnsignedByte();
+                scannedBytes++;
+            }
+
+            // 길이가 없는 마커 (TEM, RST0~7)
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                continue;
+            }
+            // 해상도 전에 이미지 데이터 / 끝이 나온 경우
+            if (marker == 0xD9 || marker == 0xDA) {
+                return Optional.empty();
+            }
+
+            int segmentLength = data.readUnsignedShort();
+            if (segmentLength < 2) {
+                return Optional.empty();
+            }
+
+            if (isStartOfFrame(marker)) {
+                data.readUnsignedByte();
+                int height = data.readUnsignedShort();
+                int width = data.readUnsignedShort();
+                return Optional.of(ImageHeader.of(ImageFormat.JPEG, width, height));
+            }
+
+            skipFully(data, segmentLength - 2);
+            scannedBytes += segmentLength;
+        }
+
+        return Optional.empty();
+    }
+
+    // SOF0 ~ SOF15 (DHT, JPG, DAC 제외)
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF
+                && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static void skipFully(
+            DataInputStream data,
+            int length
+    ) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = data.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+    }
+}
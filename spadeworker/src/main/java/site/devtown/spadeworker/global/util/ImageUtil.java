@@ -1,7 +1,24 @@
 package site.devtown.spadeworker.global.util;
 
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 public class ImageUtil {
 
+    // 저장된 이미지 조회 API 경로 : /api/images/{imageType}/{storedFileName}
+    private static final String IMAGE_SERVING_PATH = "/api/images/";
+
+    // 디폴트 이미지 이름 : {imageType}_default.{extension}
+    private static final Pattern DEFAULT_IMAGE_NAME_PATTERN = Pattern.compile("^[a-z-]+_default\\.[A-Za-z0-9]+$");
+    // 내용 주소 기반 저장 이름 : {imageType}_{sha256}.{extension}
+    private static final Pattern CONTENT_ADDRESSED_NAME_PATTERN = Pattern.compile("^[a-z-]+_[0-9a-f]{64}\\.[A-Za-z0-9]+$");
+    // UUID / SHA-256 기반 저장 이름과 그 리사이즈 이미지 이름 : {imageType}_{uuid | sha256}[_w{width}].{extension}
+    private static final Pattern IMMUTABLE_NAME_PATTERN = Pattern.compile(
+            "^[a-z-]+_([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})(_w\\d+)?\\.[A-Za-z0-9]+$"
+    );
+
     public static String getImageExtension(String imageFileName) {
         return imageFileName.substring(imageFileName.lastIndexOf(".") + 1);
     }
@@ -9,4 +26,70 @@ public class ImageUtil {
     public static String getLocalStorageImageName(String localStorageImageUri) {
         return localStorageImageUri.substring(localStorageImageUri.lastIndexOf("/") + 1);
     }
+
+    /**
+     * 저장 경로 (로컬 파일 경로 또는 오브젝트 스토리지 URI) 를 이미지 조회 API 경로로 변환
+     */
+    public static String getImageServingUri(
+            String imageType,
+            String fileStoredFullPath
+    ) {
+        if (fileStoredFullPath == null) {
+            return null;
+        }
+
+        return IMAGE_SERVING_PATH + imageType + "/" + getLocalStorageImageName(fileStoredFullPath);
+    }
+
+    /**
+     * 디폴트 이미지 이름인지 여부
+     */
+    public static boolean isDefaultImageName(String imageFileName) {
+        return DEFAULT_IMAGE_NAME_PATTERN.matcher(imageFileName).matches();
+    }
+
+    /**
+     * 같은 이름으로 다른 내용이 저장되지 않는 (UUID / SHA-256 기반) 이미지 이름인지 여부
+     */
+    public static boolean isImmutableImageName(String imageFileName) {
+        return IMMUTABLE_NAME_PATTERN.matcher(imageFileName).matches();
+    }
+
+    /**
+     * 내용 주소 (SHA-256) 기반 저장 이름인지 여부
+     */
+    public static boolean isContentAddressedImageName(String imageFileName) {
+        return CONTENT_ADDRESSED_NAME_PATTERN.matcher(imageFileName).matches();
+    }
+
+    /**
+     * 너비별 리사이즈 이미지 경로를 "너비=경로" 목록 문자열로 변환
+     */
+    public static String encodeVariantUris(Map<Integer, String> variantUris) {
+        return variantUris.entrySet()
+                .stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * "너비=경로" 목록 문자열을 너비별 리사이즈 이미지 경로로 변환
+     */
+    public static Map<Integer, String> decodeVariantUris(String encodedVariantUris) {
+        Map<Integer, String> variantUris = new TreeMap<>();
+
+        if (encodedVariantUris == null || encodedVariantUris.isBlank()) {
+            return variantUris;
+        }
+
+        for (String entry : encodedVariantUris.split(",")) {
+            int separatorIndex = entry.indexOf("=");
+            variantUris.put(
+                    Integer.parseInt(entry.substring(0, separatorIndex)),
+                    entry.substring(separatorIndex + 1)
+            );
+        }
+
+        return variantUris;
+    }
 }
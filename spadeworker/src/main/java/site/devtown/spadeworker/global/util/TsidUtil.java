@@ -0,0 +1,69 @@
+package site.devtown.spadeworker.global.util;
+
+/**
+ * 시간 순으로 정렬되는 64bit id (TSID) 생성
+ * 42bit 밀리초 (2023-01-01 기준) + 10bit 노드 + 12bit 순번 으로 구성되며, DB 왕복 없이 프로세스 안에서 발급한다.
+ * 노드 번호는 인스턴스마다 다른 값 (0 ~ 1023) 으로 SPADEWORKER_NODE_ID 환경 변수에 반드시 지정해야 한다.
+ * (임의로 정하면 두 인스턴스의 노드 번호가 겹쳐 같은 id 가 발급될 수 있음)
+ * 발급된 id 는 2^53 을 넘으므로 JSON 응답에서는 문자열로 직렬화한다.
+ */
+public class TsidUtil {
+
+    private static final long EPOCH_MILLIS = 1672531200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long NODE = resolveNode();
+
+    private static long lastMillis = -1;
+    private static long sequence;
+
+    /**
+     * 이 인스턴스의 노드 번호
+     */
+    public static long getNode() {
+        return NODE;
+    }
+
+    public static synchronized long nextId() {
+        // 시계가 뒤로 가더라도 마지막 발급 시각 이후로만 발급
+        long millis = Math.max(System.currentTimeMillis(), lastMillis);
+
+        if (millis == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            // 같은 밀리초의 순번을 모두 사용했다면 다음 밀리초의 순번을 미리 사용
+            if (sequence == 0) {
+                millis++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = millis;
+
+        return ((millis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (NODE << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private static long resolveNode() {
+        String nodeId = System.getenv("SPADEWORKER_NODE_ID");
+
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalStateException("SPADEWORKER_NODE_ID 환경 변수가 지정되지 않았습니다.");
+        }
+
+        long node;
+        try {
+            node = Long.parseLong(nodeId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("SPADEWORKER_NODE_ID 는 숫자여야 합니다. : " + nodeId, e);
+        }
+
+        if (node < 0 || node > NODE_MASK) {
+            throw new IllegalStateException("SPADEWORKER_NODE_ID 는 0 ~ " + NODE_MASK + " 사이여야 합니다. : " + nodeId);
+        }
+
+        return node;
+    }
+}
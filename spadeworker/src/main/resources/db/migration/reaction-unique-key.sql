@@ -0,0 +1,23 @@
+-- 프로젝트 좋아요/구독 중복 제거 및 unique 키 추가 (MySQL)
+-- 동시 요청 경쟁으로 같은 (프로젝트, 사용자) 행이 여러 개 등록되었을 수 있으므로, 배포 전 한 번 실행한다.
+-- 가장 먼저 등록된 (id 가 가장 작은) 행만 남긴다.
+-- 삭제된 행만큼 어긋난 project 의 좋아요/구독 수는 카운터 보정 작업(project.counter.reconcile-cron)에서 맞춰진다.
+
+DELETE r
+FROM `project_like` r
+JOIN `project_like` k
+  ON k.`project_id` = r.`project_id`
+ AND k.`user_id` = r.`user_id`
+ AND k.`id` < r.`id`;
+
+DELETE r
+FROM `project_subscribe` r
+JOIN `project_subscribe` k
+  ON k.`project_id` = r.`project_id`
+ AND k.`subscriber_id` = r.`subscriber_id`
+ AND k.`id` < r.`id`;
+
+ALTER TABLE `project_like`
+    ADD CONSTRAINT `uk_project_like_project_id_user_id` UNIQUE (`project_id`, `user_id`);
+ALTER TABLE `project_subscribe`
+    ADD CONSTRAINT `uk_project_subscribe_project_id_subscriber_id` UNIQUE (`project_id`, `subscriber_id`);
@@ -0,0 +1,19 @@
+-- TSID id 생성기 전환 (MySQL)
+-- 기존 AUTO_INCREMENT id 컬럼에서 AUTO_INCREMENT 를 제거한다. 배포 전 한 번 실행한다.
+-- 기존 id 는 그대로 유지되며, 새 TSID 는 항상 기존 id 보다 크므로 id 순서도 유지된다.
+-- 컬럼 타입이 바뀌지 않으므로 외래 키는 다시 만들 필요가 없다.
+-- 외래 키가 참조하는 id 컬럼은 외래 키 검사 중에는 변경할 수 없으므로 (MySQL 8 ERROR 1833) 검사를 잠시 끈다.
+-- 검사가 꺼진 동안 쓰기가 들어오면 참조 무결성이 깨질 수 있고 테이블 재작성으로 잠금이 걸리므로,
+-- 애플리케이션을 내린 점검 시간에 같은 세션에서 한 번에 실행한다.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE `user` MODIFY `id` BIGINT NOT NULL;
+ALTER TABLE `role` MODIFY `id` BIGINT NOT NULL;
+ALTER TABLE `user_role` MODIFY `id` BIGINT NOT NULL;
+ALTER TABLE `user_refresh_token` MODIFY `id` BIGINT NOT NULL;
+ALTER TABLE `project` MODIFY `id` BIGINT NOT NULL;
+ALTER TABLE `project_like` MODIFY `id` BIGINT NOT NULL;
+ALTER TABLE `project_subscribe` MODIFY `id` BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,291 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검증용 in-process S3 호환 서버 (path-style 요청만 지원)
+ * PutObject, GetObject, DeleteObject 와 multipart upload (Create / UploadPart / Complete / Abort) 만 처리하며 서명은 검사하지 않는다.
+ * 동시에 처리 중인 UploadPart 수의 최대값을 기록하고, 지정한 part 번호의 업로드를 실패시킬 수 있다.
+ */
+public class InProcessS3StandIn
+        implements AutoCloseable {
+
+    private static final Pattern PART_NUMBER_PATTERN = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Set<String> abortedUploadIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlightParts = new AtomicInteger();
+    private final AtomicInteger maxInFlightParts = new AtomicInteger();
+    private final long partDelayMillis;
+    private volatile int failingPartNumber = -1;
+
+    private InProcessS3StandIn(long partDelayMillis) throws IOException {
+        this.partDelayMillis = partDelayMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        // part 업로드가 실제로 병렬 처리되도록 요청마다 스레드 사용
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * 임의 포트로 서버 시작 (partDelayMillis : 병렬 업로드를 관찰할 수 있도록 UploadPart 마다 지연)
+     */
+    public static InProcessS3StandIn start(long partDelayMillis) throws IOException {
+        return new InProcessS3StandIn(partDelayMillis);
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public byte[] getObject(
+            String bucket,
+            String key
+    ) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    public int openUploadCount() {
+        return uploads.size();
+    }
+
+    public int abortedUploadCount() {
+        return abortedUploadIds.size();
+    }
+
+    /**
+     * 동시에 처리된 UploadPart 수의 최대값을 반환하고 초기화
+     */
+    public int takeMaxInFlightParts() {
+        return maxInFlightParts.getAndSet(0);
+    }
+
+    /**
+     * 이후 해당 번호의 UploadPart 요청을 500 으로 실패시킴 (-1 이면 해제)
+     */
+    public void failPart(int partNumber) {
+        this.failingPartNumber = partNumber;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            // path-style : /{bucket}/{key}
+            String objectPath = exchange.getRequestURI().getPath().substring(1);
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            if (method.equals("POST") && query.containsKey("uploads")) {
+                String uploadId = UUID.randomUUID().toString();
+                uploads.put(uploadId, new ConcurrentHashMap<>());
+                readBody(exchange);
+                sendXml(exchange, 200, "<InitiateMultipartUploadResult><UploadId>" + uploadId
+                        + "</UploadId></InitiateMultipartUploadResult>");
+            } else if (method.equals("PUT") && query.containsKey("uploadId")) {
+                uploadPart(exchange, query.get("uploadId"), Integer.parseInt(query.get("partNumber")));
+            } else if (method.equals("POST") && query.containsKey("uploadId")) {
+                completeUpload(exchange, objectPath, query.get("uploadId"));
+            } else if (method.equals("DELETE") && query.containsKey("uploadId")) {
+                uploads.remove(query.get("uploadId"));
+                abortedUploadIds.add(query.get("uploadId"));
+                send(exchange, 204, null, new byte[0]);
+            } else if (method.equals("PUT")) {
+                byte[] body = readBody(exchange);
+                objects.put(objectPath, body);
+                exchange.getResponseHeaders().add("ETag", eTagOf(body));
+                send(exchange, 200, null, new byte[0]);
+            } else if (method.equals("GET")) {
+                byte[] body = objects.get(objectPath);
+                if (body == null) {
+                    sendXml(exchange, 404, "<Error><Code>NoSuchKey</Code><Message>not found</Message></Error>");
+                    return;
+                }
+                send(exchange, 200, "application/octet-stream", body);
+            } else if (method.equals("DELETE")) {
+                objects.remove(objectPath);
+                send(exchange, 204, null, new byte[0]);
+            } else {
+                sendXml(exchange, 405, "<Error><Code>MethodNotAllowed</Code><Message>" + method + "</Message></Error>");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void uploadPart(
+            HttpExchange exchange,
+            String uploadId,
+            int partNumber
+    ) throws IOException {
+        int inFlight = inFlightParts.incrementAndGet();
+        maxInFlightParts.accumulateAndGet(inFlight, Math::max);
+        try {
+            byte[] body = readBody(exchange);
+            sleep(partDelayMillis);
+
+            Map<Integer, byte[]> parts = uploads.get(uploadId);
+            if (partNumber == failingPartNumber || parts == null) {
+                sendXml(exchange, 500, "<Error><Code>InternalError</Code><Message>part " + partNumber + "</Message></Error>");
+                return;
+            }
+
+            parts.put(partNumber, body);
+            exchange.getResponseHeaders().add("ETag", eTagOf(body));
+            send(exchange, 200, null, new byte[0]);
+        } finally {
+            inFlightParts.decrementAndGet();
+        }
+    }
+
+    private void completeUpload(
+            HttpExchange exchange,
+            String objectPath,
+            String uploadId
+    ) throws IOException {
+        String request = new String(readBody(exchange), StandardCharsets.UTF_8);
+        Map<Integer, byte[]> parts = uploads.remove(uploadId);
+        if (parts == null) {
+            sendXml(exchange, 404, "<Error><Code>NoSuchUpload</Code><Message>" + uploadId + "</Message></Error>");
+            return;
+        }
+
+        // 요청에 포함된 part 만 번호 순으로 이어 붙임
+        Map<Integer, byte[]> orderedParts = new TreeMap<>();
+        Matcher matcher = PART_NUMBER_PATTERN.matcher(request);
+        while (matcher.find()) {
+            int partNumber = Integer.parseInt(matcher.group(1));
+            orderedParts.put(partNumber, parts.get(partNumber));
+        }
+
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+        for (byte[] part : orderedParts.values()) {
+            object.write(part);
+        }
+        objects.put(objectPath, object.toByteArray());
+
+        sendXml(exchange, 200, "<CompleteMultipartUploadResult><ETag>" + eTagOf(object.toByteArray())
+                + "</ETag></CompleteMultipartUploadResult>");
+    }
+
+    // 평문 HTTP 에서는 SDK 가 aws-chunked 인코딩으로 서명된 본문을 보내므로 chunk 를 풀어서 반환
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha256 == null || !contentSha256.startsWith("STREAMING-")) {
+            return body;
+        }
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        InputStream input = new ByteArrayInputStream(body);
+        while (true) {
+            String header = readLine(input);
+            int size = Integer.parseInt(header.split(";", 2)[0].trim(), 16);
+            if (size == 0) {
+                return decoded.toByteArray();
+            }
+            decoded.write(input.readNBytes(size));
+            readLine(input);
+        }
+    }
+
+    private String readLine(InputStream input) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = input.read()) != -1 && b != '\n') {
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int separatorIndex = pair.indexOf('=');
+            if (separatorIndex < 0) {
+                query.put(pair, "");
+            } else {
+                query.put(pair.substring(0, separatorIndex), pair.substring(separatorIndex + 1));
+            }
+        }
+        return query;
+    }
+
+    private void sendXml(
+            HttpExchange exchange,
+            int status,
+            String body
+    ) throws IOException {
+        send(exchange, status, "application/xml", ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(
+            HttpExchange exchange,
+            int status,
+            String contentType,
+            byte[] body
+    ) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+        }
+        exchange.sendResponseHeaders(status, (body.length == 0) ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    private String eTagOf(byte[] body) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
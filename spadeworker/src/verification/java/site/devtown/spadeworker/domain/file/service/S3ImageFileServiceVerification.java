@@ -0,0 +1,208 @@
+package site.devtown.spadeworker.domain.file.service;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.mock.web.MockMultipartFile;
+import site.devtown.spadeworker.domain.file.constant.ImageFileType;
+import site.devtown.spadeworker.global.config.storage.S3StorageConfig;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * in-process S3 호환 서버에 대해 S3ImageFileService 의 업로드, pre-signed 조회, 삭제 동작 검증
+ * S3StorageConfig 로 만든 클라이언트를 그대로 사용하며, 검증에 실패하면 예외로 종료한다.
+ *
+ * 실행 : ./gradlew s3StandInVerification
+ */
+public class S3ImageFileServiceVerification {
+
+    private static final String BUCKET = "spadeworker-images";
+    private static final ImageFileType IMAGE_FILE_TYPE = ImageFileType.PROJECT_THUMBNAIL_IMAGE;
+    private static final int MB = 1024 * 1024;
+    private static final long MULTIPART_THRESHOLD = 16L * MB;
+    private static final int PART_SIZE = 5 * MB;
+    private static final int UPLOAD_CONCURRENCY = 3;
+    private static final int MAX_BUFFERED_PARTS = 4;
+
+    public static void main(String[] args) throws Exception {
+        try (InProcessS3StandIn standIn = InProcessS3StandIn.start(50)) {
+            S3StorageConfig config = new S3StorageConfig();
+            DirectFieldAccessor configAccessor = new DirectFieldAccessor(config);
+            configAccessor.setPropertyValue("region", "us-east-1");
+            configAccessor.setPropertyValue("endpoint", standIn.endpoint());
+            configAccessor.setPropertyValue("pathStyleAccess", true);
+            configAccessor.setPropertyValue("accessKey", "stand-in");
+            configAccessor.setPropertyValue("secretKey", "stand-in");
+            configAccessor.setPropertyValue("maxConnections", 16);
+            configAccessor.setPropertyValue("connectionTimeoutMillis", 2000L);
+            configAccessor.setPropertyValue("socketTimeoutMillis", 30000L);
+
+            try (SdkHttpClient httpClient = config.s3HttpClient();
+                 S3Client s3Client = config.s3Client(httpClient);
+                 S3Presigner s3Presigner = config.s3Presigner()) {
+                // S3 경로만 검증하므로 로컬 저장소 관련 의존성은 사용하지 않음
+                S3ImageFileService service = new S3ImageFileService(
+                        s3Client,
+                        s3Presigner,
+                        null,
+                        null,
+                        null,
+                        8,
+                        MAX_BUFFERED_PARTS
+                );
+                DirectFieldAccessor serviceAccessor = new DirectFieldAccessor(service);
+                serviceAccessor.setPropertyValue("bucket", BUCKET);
+                serviceAccessor.setPropertyValue("presignedUrlExpirySeconds", 60L);
+                serviceAccessor.setPropertyValue("multipartThreshold", MULTIPART_THRESHOLD);
+                serviceAccessor.setPropertyValue("partSize", PART_SIZE);
+                serviceAccessor.setPropertyValue("uploadConcurrency", UPLOAD_CONCURRENCY);
+
+                try {
+                    verifySinglePut(service, standIn);
+                    verifyParallelMultipart(service, standIn);
+                    verifySharedPartBudget(service, standIn);
+                    verifyAbortOnPartFailure(service, standIn);
+                } finally {
+                    service.shutdown();
+                }
+            }
+        }
+
+        System.out.println("S3 stand-in verification passed");
+    }
+
+    // threshold 미만 : PutObject 한 번으로 저장되고, pre-signed URL 로 같은 내용을 내려받고, 삭제됨
+    private static void verifySinglePut(
+            S3ImageFileService service,
+            InProcessS3StandIn standIn
+    ) throws Exception {
+        byte[] content = randomBytes(MB);
+        String storedPath = service.uploadFile(IMAGE_FILE_TYPE, imageOf(content));
+
+        check(storedPath.startsWith("s3://" + BUCKET + "/" + IMAGE_FILE_TYPE.getImageType() + "/"), "저장 경로 형식 : " + storedPath);
+        check(Arrays.equals(content, standIn.getObject(BUCKET, keyOf(storedPath))), "PutObject 내용 불일치");
+
+        String storedFileName = storedPath.substring(storedPath.lastIndexOf('/') + 1);
+        Optional<String> directReadUrl = service.getDirectReadUrl(IMAGE_FILE_TYPE, storedFileName);
+        check(directReadUrl.isPresent(), "pre-signed URL 미생성");
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(directReadUrl.get())).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+        );
+        check(response.statusCode() == 200 && Arrays.equals(content, response.body()), "pre-signed URL 조회 실패");
+
+        service.deleteFile(storedPath);
+        check(standIn.getObject(BUCKET, keyOf(storedPath)) == null, "삭제되지 않음");
+
+        System.out.println("single PutObject, pre-signed read, delete : OK");
+    }
+
+    // threshold 이상 : part 로 나누어 병렬 업로드되고, 업로드당 동시 part 수는 upload-concurrency 이하
+    private static void verifyParallelMultipart(
+            S3ImageFileService service,
+            InProcessS3StandIn standIn
+    ) throws Exception {
+        byte[] content = randomBytes(6 * PART_SIZE + 123);
+        standIn.takeMaxInFlightParts();
+
+        String storedPath = service.uploadFile(IMAGE_FILE_TYPE, imageOf(content));
+        int maxInFlightParts = standIn.takeMaxInFlightParts();
+
+        check(Arrays.equals(content, standIn.getObject(BUCKET, keyOf(storedPath))), "multipart 내용 불일치");
+        check(maxInFlightParts > 1, "part 가 병렬로 업로드되지 않음 : " + maxInFlightParts);
+        check(maxInFlightParts <= UPLOAD_CONCURRENCY, "업로드당 동시 part 수 초과 : " + maxInFlightParts);
+        check(standIn.openUploadCount() == 0, "완료되지 않은 multipart upload 존재");
+
+        System.out.println("parallel multipart (max in-flight parts " + maxInFlightParts + ") : OK");
+    }
+
+    // 동시에 여러 업로드가 진행되어도 전체 part 버퍼 수는 max-buffered-parts 이하
+    private static void verifySharedPartBudget(
+            S3ImageFileService service,
+            InProcessS3StandIn standIn
+    ) throws Exception {
+        List<byte[]> contents = new ArrayList<>();
+        List<CompletableFuture<String>> uploads = new ArrayList<>();
+        standIn.takeMaxInFlightParts();
+
+        for (int i = 0; i < 4; i++) {
+            byte[] content = randomBytes(4 * PART_SIZE);
+            contents.add(content);
+            uploads.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return service.uploadFile(IMAGE_FILE_TYPE, imageOf(content));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        for (int i = 0; i < uploads.size(); i++) {
+            String storedPath = uploads.get(i).join();
+            check(Arrays.equals(contents.get(i), standIn.getObject(BUCKET, keyOf(storedPath))), "동시 multipart 내용 불일치");
+        }
+        int maxInFlightParts = standIn.takeMaxInFlightParts();
+        check(maxInFlightParts <= MAX_BUFFERED_PARTS, "전체 part 버퍼 한도 초과 : " + maxInFlightParts);
+
+        System.out.println("shared part buffer budget (max in-flight parts " + maxInFlightParts + ") : OK");
+    }
+
+    // part 업로드가 실패하면 multipart upload 를 중단하고 객체를 만들지 않음
+    private static void verifyAbortOnPartFailure(
+            S3ImageFileService service,
+            InProcessS3StandIn standIn
+    ) {
+        int abortedBefore = standIn.abortedUploadCount();
+        standIn.failPart(2);
+        try {
+            service.uploadFile(IMAGE_FILE_TYPE, imageOf(randomBytes(4 * PART_SIZE)));
+            throw new IllegalStateException("part 업로드 실패가 전파되지 않음");
+        } catch (IOException expected) {
+            // 실패한 업로드는 IOException 으로 전파
+        } catch (Exception e) {
+            throw new IllegalStateException("예상하지 못한 예외", e);
+        } finally {
+            standIn.failPart(-1);
+        }
+
+        check(standIn.abortedUploadCount() == abortedBefore + 1, "실패한 multipart upload 가 중단되지 않음");
+        check(standIn.openUploadCount() == 0, "중단되지 않은 multipart upload 존재");
+
+        System.out.println("abort on part failure : OK");
+    }
+
+    private static MockMultipartFile imageOf(byte[] content) {
+        return new MockMultipartFile("thumbnailImage", "thumbnail.jpg", "image/jpeg", content);
+    }
+
+    private static String keyOf(String storedPath) {
+        return storedPath.substring(("s3://" + BUCKET + "/").length());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static void check(
+            boolean condition,
+            String message
+    ) {
+        if (!condition) {
+            throw new IllegalStateException("검증 실패 : " + message);
+        }
+    }
+}